@@ -0,0 +1,65 @@
+package blackjack.benchmarks;
+
+import blackjack.Cards;
+import blackjack.RandomSource;
+import blackjack.Shoe;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Building and shuffling: the original per-round 52-object deck against the
+// byte-encoded deck and the multi-deck shoe.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DeckBenchmark {
+    @Param({"1", "6"})
+    public int decks;
+
+    private ArrayList<LegacyDeck.Card> legacyDeck;
+    private Random random;
+    private byte[] encodedDeck;
+    private Shoe shoe;
+
+    @Setup
+    public void setup() {
+        legacyDeck = LegacyDeck.buildDeck();
+        random = new Random(42);
+        encodedDeck = new byte[Cards.DECK_SIZE];
+        shoe = new Shoe(decks, Shoe.DEFAULT_PENETRATION, RandomSource.create(42));
+    }
+
+    @Benchmark
+    public ArrayList<LegacyDeck.Card> legacyBuildDeck() {
+        return LegacyDeck.buildDeck();
+    }
+
+    @Benchmark
+    public byte[] encodedFillDeck() {
+        Cards.fillDeck(encodedDeck, 0);
+        return encodedDeck;
+    }
+
+    @Benchmark
+    public ArrayList<LegacyDeck.Card> legacySwapShuffle() {
+        LegacyDeck.swapShuffle(legacyDeck, random);
+        return legacyDeck;
+    }
+
+    @Benchmark
+    public ArrayList<LegacyDeck.Card> legacyCollectionsShuffle() {
+        LegacyDeck.collectionsShuffle(legacyDeck);
+        return legacyDeck;
+    }
+
+    // Full Fisher-Yates over the whole shoe (`decks` decks)
+    @Benchmark
+    public Shoe shoeShuffle() {
+        shoe.shuffle();
+        return shoe;
+    }
+}
@@ -0,0 +1,73 @@
+package blackjack.benchmarks;
+
+import blackjack.Cards;
+import blackjack.Hand;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Card values and hand totals: string parsing plus ace reduction against the
+// lookup tables and the incrementally reduced Hand.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HandBenchmark {
+    // A-A-5-K-7: exercises ace reduction twice
+    private static final int[][] RANK_SUIT = {{0, 0}, {0, 1}, {4, 2}, {12, 3}, {6, 0}};
+
+    private LegacyDeck.Card[] legacyCards;
+    private byte[] encodedCards;
+    private Hand hand;
+
+    @Setup
+    public void setup() {
+        ArrayList<LegacyDeck.Card> deck = LegacyDeck.buildDeck();
+        legacyCards = new LegacyDeck.Card[RANK_SUIT.length];
+        encodedCards = new byte[RANK_SUIT.length];
+        for (int i = 0; i < RANK_SUIT.length; i++) {
+            // Legacy deck order is suit-major: C, D, H, S each A..K
+            legacyCards[i] = deck.get(RANK_SUIT[i][1] * Cards.RANKS + RANK_SUIT[i][0]);
+            encodedCards[i] = Cards.encode(RANK_SUIT[i][0], RANK_SUIT[i][1]);
+        }
+        hand = new Hand();
+    }
+
+    @Benchmark
+    public void legacyGetValue(Blackhole blackhole) {
+        for (LegacyDeck.Card card : legacyCards) {
+            blackhole.consume(card.getValue());
+        }
+    }
+
+    @Benchmark
+    public void encodedValue(Blackhole blackhole) {
+        for (byte card : encodedCards) {
+            blackhole.consume(Cards.value(card));
+        }
+    }
+
+    // Sum the hand then reduce aces, as the original reducePlayerAce() did
+    @Benchmark
+    public int legacyHandTotal() {
+        int sum = 0;
+        int aces = 0;
+        for (LegacyDeck.Card card : legacyCards) {
+            sum += card.getValue();
+            aces += card.isAce() ? 1 : 0;
+        }
+        return LegacyDeck.reduceAce(sum, aces);
+    }
+
+    @Benchmark
+    public int encodedHandTotal() {
+        hand.clear();
+        for (byte card : encodedCards) {
+            hand.add(card);
+        }
+        return hand.getSum();
+    }
+}
@@ -0,0 +1,73 @@
+package blackjack.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+
+// The original string-based card and deck code, kept verbatim as the baseline
+// the byte-encoded cards and the shoe are measured against.
+final class LegacyDeck {
+    static final class Card {
+        String value;
+        String type;
+
+        Card(String value, String type) {
+            this.value = value;
+            this.type = type;
+        }
+
+        int getValue() {
+            if ("AJQK".contains(value)) { // A, J, Q, K
+                if (value.equals("A")) {
+                    return 11;
+                }
+                return 10;
+            }
+            return Integer.parseInt(value); // 2-10
+        }
+
+        boolean isAce() {
+            return value.equals("A");
+        }
+    }
+
+    private LegacyDeck() {
+    }
+
+    static ArrayList<Card> buildDeck() {
+        ArrayList<Card> deck = new ArrayList<>();
+        String[] values = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+        String[] types = {"C", "D", "H", "S"};
+
+        for (String type : types) {
+            for (String value : values) {
+                deck.add(new Card(value, type));
+            }
+        }
+        return deck;
+    }
+
+    // Manual swap loop from src/BlackJack.java
+    static void swapShuffle(ArrayList<Card> deck, Random random) {
+        for (int i = 0; i < deck.size(); i++) {
+            int j = random.nextInt(deck.size());
+            Card currCard = deck.get(i);
+            Card randomCard = deck.get(j);
+            deck.set(i, randomCard);
+            deck.set(j, currCard);
+        }
+    }
+
+    // Library shuffle from src/index.java
+    static void collectionsShuffle(ArrayList<Card> deck) {
+        Collections.shuffle(deck);
+    }
+
+    static int reduceAce(int sum, int aceCount) {
+        while (sum > 21 && aceCount > 0) {
+            sum -= 10;
+            aceCount -= 1;
+        }
+        return sum;
+    }
+}
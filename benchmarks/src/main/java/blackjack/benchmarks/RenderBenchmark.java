@@ -0,0 +1,71 @@
+package blackjack.benchmarks;
+
+import blackjack.CardImages;
+import blackjack.GameEngine;
+import blackjack.GameSnapshot;
+import blackjack.RandomSource;
+import blackjack.Shoe;
+import blackjack.TableRenderer;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// One full frame of the table painted into an offscreen image.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class RenderBenchmark {
+    private static final int BOARD = 600;
+    private static final int CARD_WIDTH = 110;
+    private static final int CARD_HEIGHT = 154;
+
+    // Blit of the cached static layer vs every card drawn from scratch
+    @Param({"true", "false"})
+    public boolean layer;
+
+    private TableRenderer renderer;
+    private GameSnapshot snapshot;
+    private BufferedImage frame;
+    private Graphics2D graphics;
+
+    @Setup
+    public void setup() {
+        renderer = new TableRenderer(new CardImages(CARD_WIDTH, CARD_HEIGHT, BOARD, BOARD), CARD_WIDTH, CARD_HEIGHT);
+        renderer.setLayerEnabled(layer);
+
+        // A finished round, so the hidden card and the result message are drawn too
+        GameEngine engine = new GameEngine(new Shoe(Shoe.DEFAULT_DECKS, Shoe.DEFAULT_PENETRATION, RandomSource.create(42)));
+        engine.startRound();
+        if (engine.isInsuranceOffered()) {
+            engine.insure(false);
+        }
+        if (!engine.isRoundOver()) {
+            engine.hit();
+        }
+        if (!engine.isRoundOver()) {
+            engine.stay();
+        }
+        while (engine.dealerShouldDraw()) {
+            engine.dealerDraw();
+        }
+        snapshot = GameSnapshot.of(1, engine, true);
+
+        frame = new BufferedImage(BOARD, BOARD, BufferedImage.TYPE_INT_RGB);
+        graphics = frame.createGraphics();
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage paintFrame() {
+        renderer.paint(graphics, snapshot);
+        return frame;
+    }
+}
@@ -0,0 +1,51 @@
+package blackjack.benchmarks;
+
+import blackjack.BasicStrategy;
+import blackjack.GameEngine;
+import blackjack.RandomSource;
+import blackjack.Shoe;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Full headless rounds: deal, basic strategy decisions (doubles, splits and
+// surrenders included), dealer play and settlement.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundBenchmark {
+    @Param({"1", "6"})
+    public int decks;
+
+    private GameEngine engine;
+    private BasicStrategy strategy;
+
+    @Setup
+    public void setup() {
+        engine = new GameEngine(new Shoe(decks, Shoe.DEFAULT_PENETRATION, RandomSource.create(42)));
+        strategy = BasicStrategy.defaultStrategy();
+    }
+
+    @Benchmark
+    public double round() {
+        engine.startRound();
+        if (engine.isInsuranceOffered()) {
+            engine.insure(false);
+        }
+        while (!engine.isRoundOver()) {
+            switch (strategy.decide(engine)) {
+                case HIT: engine.hit(); break;
+                case DOUBLE: engine.doubleDown(); break;
+                case SPLIT: engine.split(); break;
+                case SURRENDER: engine.surrender(); break;
+                default: engine.stand(); break;
+            }
+        }
+        while (engine.dealerShouldDraw()) {
+            engine.dealerDraw();
+        }
+        return engine.getNet();
+    }
+}
@@ -0,0 +1,46 @@
+package blackjack;
+
+// A player decision, with the code used in strategy table files. The chart
+// entries "D", "Ds" and "Rs" fall back to another action when the rules or the
+// hand do not allow the first choice; see resolve().
+public enum Action {
+    HIT("H"),
+    STAND("S"),
+    DOUBLE("D"), // Double, otherwise hit
+    DOUBLE_OR_STAND("Ds"),
+    SPLIT("P"),
+    SURRENDER("R"), // Surrender, otherwise hit
+    SURRENDER_OR_STAND("Rs");
+
+    private final String code;
+
+    Action(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public static Action fromCode(String code) {
+        for (Action action : values()) {
+            if (action.code.equals(code)) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("Unknown action code: " + code);
+    }
+
+    // The move to make: HIT, STAND, DOUBLE, SPLIT or SURRENDER. A split that is
+    // not allowed resolves to null so the caller can fall back to the total.
+    public Action resolve(boolean canDouble, boolean canSplit, boolean canSurrender) {
+        switch (this) {
+            case DOUBLE: return canDouble ? DOUBLE : HIT;
+            case DOUBLE_OR_STAND: return canDouble ? DOUBLE : STAND;
+            case SPLIT: return canSplit ? SPLIT : null;
+            case SURRENDER: return canSurrender ? SURRENDER : HIT;
+            case SURRENDER_OR_STAND: return canSurrender ? SURRENDER : STAND;
+            default: return this;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package blackjack;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+// One frame-capped timer that drives every card currently in flight. Each tick
+// moves the active tweens and repaints only the area they left and entered;
+// the timer stops itself when nothing is moving. EDT only.
+// Metrics: every repaint request, and ticks the coalescing timer dropped because
+// the EDT fell behind; requests minus painted frames are repaints Swing merged.
+public final class AnimationLoop {
+    private static final LongAdder REPAINT_REQUESTS = Metrics.GLOBAL.counter("render.repaintRequests");
+    private static final LongAdder TICKS = Metrics.GLOBAL.counter("render.ticks");
+    private static final LongAdder DROPPED_TICKS = Metrics.GLOBAL.counter("render.droppedTicks");
+
+    private final JComponent target;
+    private final Timer timer;
+    private final ArrayList<CardTween> tweens = new ArrayList<>();
+    private long changes; // Bumped whenever a card starts or stops moving
+    private final long periodNanos;
+    private long lastTick; // nanoTime of the previous tick while running
+
+    public AnimationLoop(JComponent target, int maxFps) {
+        if (maxFps < 1) {
+            throw new IllegalArgumentException("Frame cap must be positive: " + maxFps);
+        }
+        this.target = target;
+        this.timer = new Timer(Math.max(1, 1000 / maxFps), e -> tick());
+        this.periodNanos = Math.max(1, 1000 / maxFps) * 1_000_000L;
+        this.timer.setCoalesce(true); // Drop ticks the EDT could not keep up with
+    }
+
+    // Moves the card for `key` from (fromX, fromY) to (toX, toY) over durationMs
+    public void animate(int key, Image image, int fromX, int fromY, int toX, int toY, int durationMs) {
+        CardTween tween = new CardTween(key, image, fromX, fromY, toX, toY, durationMs, System.nanoTime());
+        tweens.add(tween);
+        changes++;
+        target.repaint(fromX, fromY, tween.width(), tween.height());
+        REPAINT_REQUESTS.increment();
+        if (!timer.isRunning()) {
+            lastTick = System.nanoTime();
+            timer.start();
+        }
+    }
+
+    public boolean isAnimating(int key) {
+        for (int i = 0; i < tweens.size(); i++) {
+            if (tweens.get(i).key == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Changes whenever the set of moving cards does, so a cached frame of the
+    // settled cards knows it is stale
+    public long getChanges() {
+        return changes;
+    }
+
+    public boolean isRunning() {
+        return !tweens.isEmpty();
+    }
+
+    // Draws every card in flight; call after the settled cards so these end up on top
+    public void paintTweens(Graphics g) {
+        for (int i = 0; i < tweens.size(); i++) {
+            CardTween tween = tweens.get(i);
+            g.drawImage(tween.image, tween.x, tween.y, null);
+        }
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        TICKS.increment();
+        long missed = (now - lastTick) / periodNanos - 1;
+        if (missed > 0) {
+            DROPPED_TICKS.add(missed);
+        }
+        lastTick = now;
+        for (int i = tweens.size() - 1; i >= 0; i--) {
+            CardTween tween = tweens.get(i);
+            int oldX = tween.x;
+            int oldY = tween.y;
+            boolean done = tween.advance(now);
+
+            // Union of where the card was and where it is now
+            int width = tween.width();
+            int height = tween.height();
+            int x = Math.min(oldX, tween.x);
+            int y = Math.min(oldY, tween.y);
+            target.repaint(x, y, Math.abs(tween.x - oldX) + width, Math.abs(tween.y - oldY) + height);
+            REPAINT_REQUESTS.increment();
+            if (done) {
+                tweens.remove(i);
+                changes++;
+            }
+        }
+        if (tweens.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    private static final class CardTween {
+        final int key;
+        final Image image;
+        final int fromX;
+        final int fromY;
+        final int toX;
+        final int toY;
+        final long durationNanos;
+        final long startNanos;
+        int x;
+        int y;
+
+        CardTween(int key, Image image, int fromX, int fromY, int toX, int toY, int durationMs, long startNanos) {
+            this.key = key;
+            this.image = image;
+            this.fromX = fromX;
+            this.fromY = fromY;
+            this.toX = toX;
+            this.toY = toY;
+            this.durationNanos = Math.max(1, durationMs) * 1_000_000L;
+            this.startNanos = startNanos;
+            this.x = fromX;
+            this.y = fromY;
+        }
+
+        // Returns true once the card has reached its destination
+        boolean advance(long now) {
+            double t = Math.min(1.0, (now - startNanos) / (double) durationNanos);
+            x = fromX + (int) Math.round((toX - fromX) * t);
+            y = fromY + (int) Math.round((toY - fromY) * t);
+            return t >= 1.0;
+        }
+
+        int width() {
+            return image == null ? 0 : image.getWidth(null);
+        }
+
+        int height() {
+            return image == null ? 0 : image.getHeight(null);
+        }
+    }
+}
@@ -1,3 +1,5 @@
+package blackjack;
+
 public class App {
     public static void main(String[] args) throws Exception {
         BlackJack blackJack = new BlackJack();
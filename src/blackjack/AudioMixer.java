@@ -0,0 +1,229 @@
+package blackjack;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.sound.sampled.*;
+
+// Small software mixer for the table's sound effects. Every effect is decoded
+// once into 16-bit stereo PCM at OUTPUT_RATE, and one daemon thread sums the
+// playing voices into a single SourceDataLine in PERIOD_FRAMES blocks, so
+// overlapping effects layer instead of cutting each other off. play() only
+// offers to a queue and never blocks the caller (the EDT). A missing file leaves
+// that effect silent; a machine without an audio device leaves them all silent.
+public final class AudioMixer implements AutoCloseable {
+    public enum Sound {
+        HIT("/Card/hit.wav"),
+        STAY("/Card/stay.wav"),
+        WELCOME("/Card/welcome.wav");
+
+        private final String path;
+
+        Sound(String path) {
+            this.path = path;
+        }
+    }
+
+    public static final float OUTPUT_RATE = 44_100f;
+    private static final int CHANNELS = 2;
+    private static final int PERIOD_FRAMES = 256;    // ~6 ms per mixed block
+    private static final int LINE_PERIODS = 4;       // Line buffer, and so worst-case start delay
+    private static final int MAX_VOICES = 8;         // The oldest voice is dropped beyond this
+    private static final AudioFormat OUTPUT_FORMAT = new AudioFormat(OUTPUT_RATE, 16, CHANNELS, true, false);
+
+    private final short[][] samples = new short[Sound.values().length][]; // Interleaved; null when silent
+    private final BlockingQueue<short[]> requests = new ArrayBlockingQueue<>(MAX_VOICES);
+    private final SourceDataLine line;
+    private final Thread mixer;
+
+    // Mixing thread only
+    private final short[][] voices = new short[MAX_VOICES][];
+    private final int[] positions = new int[MAX_VOICES];
+    private final int[] mix = new int[PERIOD_FRAMES * CHANNELS];
+    private final byte[] out = new byte[PERIOD_FRAMES * CHANNELS * 2];
+    private int voiceCount;
+
+    private AudioMixer(SourceDataLine line) {
+        this.line = line;
+        if (line != null) {
+            for (Sound sound : Sound.values()) {
+                samples[sound.ordinal()] = decode(sound.path);
+            }
+            mixer = new Thread(this::run, "audio-mixer");
+            mixer.setDaemon(true);
+            mixer.start();
+        } else {
+            mixer = null;
+        }
+    }
+
+    // Decodes every effect and opens the output line; call it off the EDT
+    public static AudioMixer open() {
+        return new AudioMixer(openLine());
+    }
+
+    // Starts the effect on the next mixed block; drops it if the queue is full
+    public void play(Sound sound) {
+        short[] pcm = samples[sound.ordinal()];
+        if (mixer != null && pcm != null) {
+            requests.offer(pcm);
+        }
+    }
+
+    public boolean isAvailable(Sound sound) {
+        return mixer != null && samples[sound.ordinal()] != null;
+    }
+
+    @Override
+    public void close() {
+        if (mixer != null) {
+            mixer.interrupt();
+            try {
+                mixer.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            line.close();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (voiceCount == 0) {
+                    addVoice(requests.take()); // Idle: the line drains and the thread sleeps
+                }
+                for (short[] pcm = requests.poll(); pcm != null; pcm = requests.poll()) {
+                    addVoice(pcm);
+                }
+                mixPeriod();
+                line.write(out, 0, out.length); // Blocks while the line buffer is full
+            }
+        } catch (InterruptedException e) {
+            // Closed
+        }
+    }
+
+    private void addVoice(short[] pcm) {
+        if (voiceCount == MAX_VOICES) {
+            removeVoice(0);
+        }
+        voices[voiceCount] = pcm;
+        positions[voiceCount] = 0;
+        voiceCount++;
+    }
+
+    private void removeVoice(int v) {
+        voiceCount--;
+        System.arraycopy(voices, v + 1, voices, v, voiceCount - v);
+        System.arraycopy(positions, v + 1, positions, v, voiceCount - v);
+        voices[voiceCount] = null;
+    }
+
+    // Sums the live voices into one block, clamps it and encodes it little-endian
+    private void mixPeriod() {
+        Arrays.fill(mix, 0);
+        for (int v = voiceCount - 1; v >= 0; v--) {
+            short[] pcm = voices[v];
+            int from = positions[v];
+            int n = Math.min(mix.length, pcm.length - from);
+            for (int i = 0; i < n; i++) {
+                mix[i] += pcm[from + i];
+            }
+            positions[v] = from + n;
+            if (positions[v] == pcm.length) {
+                removeVoice(v);
+            }
+        }
+        for (int i = 0, b = 0; i < mix.length; i++) {
+            int sample = Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, mix[i]));
+            out[b++] = (byte) sample;
+            out[b++] = (byte) (sample >> 8);
+        }
+    }
+
+    private static SourceDataLine openLine() {
+        try {
+            SourceDataLine line = AudioSystem.getSourceDataLine(OUTPUT_FORMAT);
+            line.open(OUTPUT_FORMAT, PERIOD_FRAMES * LINE_PERIODS * OUTPUT_FORMAT.getFrameSize());
+            line.start();
+            return line;
+        } catch (LineUnavailableException | IllegalArgumentException e) {
+            // IllegalArgumentException: no mixer supports the format, e.g. no sound card
+            System.err.println("Audio disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Any PCM WAV to interleaved 16-bit stereo at OUTPUT_RATE, or null if it cannot be read
+    private static short[] decode(String path) {
+        InputStream resource = AudioMixer.class.getResourceAsStream(path);
+        if (resource == null) {
+            System.err.println("Missing sound resource: " + path);
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(resource); // AudioSystem needs mark/reset
+             AudioInputStream source = AudioSystem.getAudioInputStream(in)) {
+            AudioFormat from = source.getFormat();
+            AudioFormat pcm16 = new AudioFormat(from.getSampleRate(), 16, from.getChannels(), true, false);
+            byte[] bytes;
+            try (AudioInputStream converted = AudioSystem.getAudioInputStream(pcm16, source)) {
+                bytes = readAll(converted);
+            }
+            return resample(toStereo(bytes, from.getChannels()), from.getSampleRate());
+        } catch (UnsupportedAudioFileException | IOException | IllegalArgumentException e) {
+            System.err.println("Sound " + path + " disabled: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        in.transferTo(buffer);
+        return buffer.toByteArray();
+    }
+
+    // Keeps the first two channels, or doubles a mono one
+    private static short[] toStereo(byte[] bytes, int channels) {
+        int frames = bytes.length / (2 * channels);
+        short[] stereo = new short[frames * CHANNELS];
+        for (int f = 0; f < frames; f++) {
+            int base = f * channels * 2;
+            short left = (short) ((bytes[base] & 0xff) | (bytes[base + 1] << 8));
+            short right = left;
+            if (channels > 1) {
+                right = (short) ((bytes[base + 2] & 0xff) | (bytes[base + 3] << 8));
+            }
+            stereo[f * 2] = left;
+            stereo[f * 2 + 1] = right;
+        }
+        return stereo;
+    }
+
+    // Linear interpolation; fine for short effects
+    private static short[] resample(short[] stereo, float rate) {
+        if (rate == OUTPUT_RATE) {
+            return stereo;
+        }
+        int frames = stereo.length / CHANNELS;
+        int outFrames = (int) ((long) frames * OUTPUT_RATE / rate);
+        short[] resampled = new short[outFrames * CHANNELS];
+        double step = rate / OUTPUT_RATE;
+        for (int f = 0; f < outFrames; f++) {
+            double at = f * step;
+            int i = (int) at;
+            int j = Math.min(i + 1, frames - 1);
+            double t = at - i;
+            for (int c = 0; c < CHANNELS; c++) {
+                resampled[f * CHANNELS + c] = (short) Math.round(
+                        stereo[i * CHANNELS + c] * (1 - t) + stereo[j * CHANNELS + c] * t);
+            }
+        }
+        return resampled;
+    }
+}
@@ -0,0 +1,246 @@
+package blackjack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Precomputed decision table indexed by (soft flag, player total, dealer up-card),
+// so a decision is a single array read, plus a table of which pairs to split.
+// Tables can be saved to and loaded from a text file with one row per hand, e.g.
+// "H16 S S S S S H H R R R", and one per pair, e.g. "P9 P P P P P - P P - -"
+// where "-" plays the pair by its total.
+//
+// decide(GameEngine) makes the full decision for the active hand; the
+// (total, soft, up-card) forms only answer hit or stand, for callers that
+// cannot double, split or surrender.
+public final class BasicStrategy {
+    public static final int MAX_TOTAL = GameEngine.BLACKJACK;
+    // Up-card values 2..11 (ace counts 11)
+    public static final int UP_CARDS = 10;
+    private static final String UP_CARD_HEADER = "2 3 4 5 6 7 8 9 T A";
+
+    private static final Action[] ACTIONS = Action.values();
+
+    private static final String NO_SPLIT = "-";
+
+    private final byte[] table = new byte[2 * (MAX_TOTAL + 1) * UP_CARDS];
+    // Pair card value 2..11 by up-card
+    private final boolean[] splits = new boolean[UP_CARDS * UP_CARDS];
+
+    private BasicStrategy() {
+    }
+
+    // Hit or stand only
+    public Action decide(Hand hand, byte dealerUpCard) {
+        return decide(hand.getSum(), hand.isSoft(), Cards.value(dealerUpCard));
+    }
+
+    // Hit or stand only; doubles and surrenders fall back to their alternative
+    public Action decide(int total, boolean soft, int upCardValue) {
+        return get(total, soft, upCardValue).resolve(false, false, false);
+    }
+
+    // HIT, STAND, DOUBLE, SPLIT or SURRENDER for the engine's active hand,
+    // taking what the rules and the hand allow into account
+    public Action decide(GameEngine engine) {
+        Hand hand = engine.getActivePlayerHand();
+        int upCardValue = Cards.value(engine.getDealerUpCard());
+        if (engine.canSplit() && isSplit(Cards.value(hand.get(0)), upCardValue)) {
+            return Action.SPLIT;
+        }
+        Action action = get(hand.getSum(), hand.isSoft(), upCardValue)
+                .resolve(engine.canDouble(), false, engine.canSurrender());
+        return action == Action.HIT && !engine.canHit() ? Action.STAND : action;
+    }
+
+    // The table entry as written, before any fallback
+    public Action get(int total, boolean soft, int upCardValue) {
+        if (total > MAX_TOTAL) {
+            return Action.STAND;
+        }
+        return ACTIONS[table[index(total, soft, upCardValue)]];
+    }
+
+    public void set(int total, boolean soft, int upCardValue, Action action) {
+        if (action == Action.SPLIT) {
+            throw new IllegalArgumentException("Splits belong in the pair table");
+        }
+        table[index(total, soft, upCardValue)] = (byte) action.ordinal();
+    }
+
+    // Pairs are given by card value, 2..11 with aces as 11
+    public boolean isSplit(int pairValue, int upCardValue) {
+        return splits[(pairValue - 2) * UP_CARDS + (upCardValue - 2)];
+    }
+
+    public void setSplit(int pairValue, int upCardValue, boolean split) {
+        splits[(pairValue - 2) * UP_CARDS + (upCardValue - 2)] = split;
+    }
+
+    private static int index(int total, boolean soft, int upCardValue) {
+        return ((soft ? MAX_TOTAL + 1 : 0) + total) * UP_CARDS + (upCardValue - 2);
+    }
+
+    // Basic strategy for a multi-deck shoe where the dealer stands on all 17s,
+    // with doubling after splits and late surrender
+    public static BasicStrategy defaultStrategy() {
+        BasicStrategy strategy = new BasicStrategy();
+        for (int up = 2; up <= 11; up++) {
+            for (int total = 0; total <= MAX_TOTAL; total++) {
+                boolean hardStand = total >= 17
+                        || (total >= 13 && up <= 6)
+                        || (total == 12 && up >= 4 && up <= 6);
+                boolean hardDouble = (total == 11 && up <= 10)
+                        || (total == 10 && up <= 9)
+                        || (total == 9 && up >= 3 && up <= 6);
+                boolean surrender = (total == 16 && up >= 9) || (total == 15 && up == 10);
+                strategy.set(total, false, up, surrender ? Action.SURRENDER
+                        : hardDouble ? Action.DOUBLE : hardStand ? Action.STAND : Action.HIT);
+
+                boolean softStand = total >= 19 || (total == 18 && up <= 8);
+                boolean softDouble = (total == 18 && up >= 3 && up <= 6)
+                        || (total == 17 && up >= 3 && up <= 6)
+                        || ((total == 15 || total == 16) && up >= 4 && up <= 6)
+                        || ((total == 13 || total == 14) && up >= 5 && up <= 6);
+                strategy.set(total, true, up, softDouble ? (softStand ? Action.DOUBLE_OR_STAND : Action.DOUBLE)
+                        : softStand ? Action.STAND : Action.HIT);
+            }
+            strategy.setSplit(11, up, true);
+            strategy.setSplit(9, up, up <= 9 && up != 7);
+            strategy.setSplit(8, up, true);
+            strategy.setSplit(7, up, up <= 7);
+            strategy.setSplit(6, up, up <= 6);
+            strategy.setSplit(4, up, up == 5 || up == 6);
+            strategy.setSplit(3, up, up <= 7);
+            strategy.setSplit(2, up, up <= 7);
+        }
+        return strategy;
+    }
+
+    // Draws until the total reaches standOn whatever the dealer shows, like the dealer does
+    public static BasicStrategy standOn(int standOn) {
+        BasicStrategy strategy = new BasicStrategy();
+        for (int up = 2; up <= 11; up++) {
+            for (int total = 0; total <= MAX_TOTAL; total++) {
+                Action action = total >= standOn ? Action.STAND : Action.HIT;
+                strategy.set(total, false, up, action);
+                strategy.set(total, true, up, action);
+            }
+        }
+        return strategy;
+    }
+
+    public static BasicStrategy load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return read(reader);
+        }
+    }
+
+    // Rows that are missing from the file default to STAND
+    public static BasicStrategy read(Reader reader) throws IOException {
+        BasicStrategy strategy = standOn(0);
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            char kind = fields[0].charAt(0);
+            if (fields.length != UP_CARDS + 1 || (kind != 'H' && kind != 'S' && kind != 'P')) {
+                throw new IOException("Malformed strategy row at line " + lineNumber + ": " + line);
+            }
+            if (kind == 'P') {
+                readPairRow(strategy, fields, lineNumber);
+                continue;
+            }
+            boolean soft = kind == 'S';
+            int total;
+            try {
+                total = Integer.parseInt(fields[0].substring(1));
+            } catch (NumberFormatException e) {
+                throw new IOException("Malformed total at line " + lineNumber + ": " + fields[0], e);
+            }
+            if (total < 0 || total > MAX_TOTAL) {
+                throw new IOException("Total out of range at line " + lineNumber + ": " + total);
+            }
+            for (int i = 0; i < UP_CARDS; i++) {
+                try {
+                    strategy.set(total, soft, i + 2, Action.fromCode(fields[i + 1]));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Malformed action at line " + lineNumber + ": " + fields[i + 1], e);
+                }
+            }
+        }
+        return strategy;
+    }
+
+    private static void readPairRow(BasicStrategy strategy, String[] fields, int lineNumber) throws IOException {
+        int pair = cardValue(fields[0].substring(1));
+        if (pair < 2 || pair > 11) {
+            throw new IOException("Malformed pair at line " + lineNumber + ": " + fields[0]);
+        }
+        for (int i = 0; i < UP_CARDS; i++) {
+            String field = fields[i + 1];
+            if (!field.equals(Action.SPLIT.getCode()) && !field.equals(NO_SPLIT)) {
+                throw new IOException("Malformed split entry at line " + lineNumber + ": " + field);
+            }
+            strategy.setSplit(pair, i + 2, field.equals(Action.SPLIT.getCode()));
+        }
+    }
+
+    // "2".."9", "T" or "A"; -1 if none of those
+    private static int cardValue(String name) {
+        switch (name) {
+            case "T": return 10;
+            case "A": return 11;
+            default: return name.length() == 1 && Character.isDigit(name.charAt(0)) ? name.charAt(0) - '0' : -1;
+        }
+    }
+
+    private static String cardName(int value) {
+        return value == 10 ? "T" : value == 11 ? "A" : String.valueOf(value);
+    }
+
+    public void save(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            write(writer);
+        }
+    }
+
+    // Hard totals 4..21, soft totals 12..21, then pairs 2..A
+    public void write(Writer writer) {
+        PrintWriter out = new PrintWriter(writer);
+        out.println("# total " + UP_CARD_HEADER);
+        for (int total = 4; total <= MAX_TOTAL; total++) {
+            writeRow(out, total, false);
+        }
+        for (int total = 12; total <= MAX_TOTAL; total++) {
+            writeRow(out, total, true);
+        }
+        for (int pair = 2; pair <= 11; pair++) {
+            StringBuilder row = new StringBuilder().append('P').append(cardName(pair));
+            for (int up = 2; up <= 11; up++) {
+                row.append(' ').append(isSplit(pair, up) ? Action.SPLIT.getCode() : NO_SPLIT);
+            }
+            out.println(row);
+        }
+        out.flush();
+    }
+
+    private void writeRow(PrintWriter out, int total, boolean soft) {
+        StringBuilder row = new StringBuilder().append(soft ? 'S' : 'H').append(total);
+        for (int up = 2; up <= 11; up++) {
+            row.append(' ').append(get(total, soft, up).getCode());
+        }
+        out.println(row);
+    }
+}
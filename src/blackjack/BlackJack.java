@@ -0,0 +1,263 @@
+package blackjack;
+
+import java.awt.*;
+import java.awt.event.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import javax.swing.*;
+
+public class BlackJack {
+    private static final LatencyHistogram FRAME_TIME = Metrics.GLOBAL.histogram("render.frame");
+
+    // Shoe seed and generator, overridable with -Dblackjack.seed / -Dblackjack.rng
+    // and logged at startup so a disputed hand can be dealt again
+    private long seed = Long.getLong("blackjack.seed", RandomSource.newSeed());
+    private String rngAlgorithm = System.getProperty("blackjack.rng", RandomSource.DEFAULT_ALGORITHM);
+    private GameEngine engine = new GameEngine(RandomSource.create(rngAlgorithm, seed));
+
+    // The engine runs on the controller's game thread; the UI only reads the
+    // snapshots it publishes. `shown` is the one currently on screen (EDT only).
+    private int dealerDelay = 1000; // ms between dealer draws
+    private GameController controller = new GameController(engine, dealerDelay, this::onSnapshot);
+    private GameSnapshot shown = GameSnapshot.EMPTY;
+
+    // Hand history, recorded when -Dblackjack.history=<directory> is set
+    private HandHistoryLog history;
+
+    // Window
+    private int boardWidth = 600;
+    private int boardHeight = boardWidth;
+    private int cardWidth = 110; // Ratio should be 1/1.4
+    private int cardHeight = 154;
+    private CardImages cardImages = new CardImages(cardWidth, cardHeight, boardWidth, boardHeight);
+    private TableRenderer renderer = new TableRenderer(cardImages, cardWidth, cardHeight);
+
+    // Animation: one shared loop, capped at -Dblackjack.fps frames per second
+    private int maxFps = Integer.getInteger("blackjack.fps", 60);
+    private int animationDuration = 640; // ms for a card to travel from the deck to a hand
+
+    // Sound effects, mixed so they overlap; null until opened off the EDT
+    private volatile AudioMixer audio;
+
+    private JFrame frame = new JFrame("Black Jack");
+    private JPanel gamePanel = new JPanel() {
+        @Override
+        protected void paintComponent(Graphics g) {
+            long start = System.nanoTime();
+            GameEvents.Frame event = new GameEvents.Frame();
+            event.begin();
+            super.paintComponent(g);
+
+            try {
+                renderer.paint(g, shown);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+            FRAME_TIME.recordSince(start);
+            if (event.shouldCommit()) {
+                Rectangle clip = g.getClipBounds();
+                event.version = shown.getVersion();
+                event.cards = shown.getDealerCardCount() + shown.getPlayerCardCount();
+                event.animating = animationLoop.isRunning();
+                event.clipWidth = clip != null ? clip.width : getWidth();
+                event.clipHeight = clip != null ? clip.height : getHeight();
+                event.commit();
+            }
+        }
+    };
+    private AnimationLoop animationLoop = new AnimationLoop(gamePanel, maxFps);
+    private JPanel buttonPanel = new JPanel();
+    private JPanel scorePanel = new JPanel();
+    private JButton hitButton = new JButton("Hit");
+    private JButton stayButton = new JButton("Stay");
+    private JLabel dealerScoreLabel = new JLabel("Dealer: 0");
+    private JLabel playerScoreLabel = new JLabel("Player: 0");
+
+    public BlackJack() {
+        System.out.println("Shoe seed: " + seed + " (" + rngAlgorithm + ")");
+        renderer.setAnimationLoop(animationLoop);
+        openHistory();
+        openAudio(); // Decodes the effects in the background, then plays the welcome sound
+        showWelcomeScreen(); // Show welcome screen before initializing game window
+    }
+
+    private void showWelcomeScreen() {
+        JFrame welcomeFrame = new JFrame("Welcome");
+        JPanel welcomePanel = new JPanel() {
+            @Override
+            protected void paintComponent(Graphics g) {
+                super.paintComponent(g);
+                try {
+                    // Set background color for the welcome screen
+                    setBackground(new Color(173, 216, 230)); // Light blue background color
+                    Image backgroundImg = new ImageIcon(getClass().getResource("/Card/welcome_bg.jpg")).getImage();
+                    g.drawImage(backgroundImg, 0, 0, getWidth(), getHeight(), null);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        };
+
+        welcomePanel.setLayout(new BorderLayout());
+
+        JLabel welcomeLabel = new JLabel("Welcome to Blackjack", JLabel.CENTER);
+        welcomeLabel.setFont(new Font("Arial", Font.BOLD, 24));
+        welcomeLabel.setForeground(Color.WHITE); // Set text color to ensure it is visible on the background
+        welcomePanel.add(welcomeLabel, BorderLayout.CENTER);
+
+        JButton startButton = new JButton("Start Game");
+        startButton.setFont(new Font("Arial", Font.PLAIN, 18));
+        welcomePanel.add(startButton, BorderLayout.SOUTH);
+
+        startButton.addActionListener(e -> {
+            welcomeFrame.dispose(); // Close the welcome window
+            startGame(); // Start the main game
+            setupMainGameWindow(); // Set up and show the main game window
+        });
+
+        welcomeFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        welcomeFrame.setSize(600, 400); // Increase the size of the welcome window
+        welcomeFrame.setLocationRelativeTo(null);
+        welcomeFrame.add(welcomePanel);
+        welcomeFrame.setVisible(true);
+    }
+
+    private void setupMainGameWindow() {
+        frame.setVisible(true);
+        frame.setSize(boardWidth, boardHeight);
+        frame.setLocationRelativeTo(null);
+        frame.setResizable(false);
+        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+
+        gamePanel.setLayout(new BorderLayout());
+        gamePanel.setBackground(new Color(139, 137, 137)); // Dark green background
+        frame.add(gamePanel, BorderLayout.CENTER);
+
+        scorePanel.setLayout(new GridLayout(1, 2));
+        scorePanel.setBackground(new Color(255, 204, 51)); // Light yellow background
+        scorePanel.add(dealerScoreLabel);
+        scorePanel.add(playerScoreLabel);
+        gamePanel.add(scorePanel, BorderLayout.NORTH);
+
+        hitButton.setFocusable(false);
+        buttonPanel.add(hitButton);
+        stayButton.setFocusable(false);
+        buttonPanel.add(stayButton);
+        buttonPanel.setBackground(new Color(64, 64, 64)); // Dark gray background
+        gamePanel.add(buttonPanel, BorderLayout.SOUTH);
+
+        hitButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                playSound(AudioMixer.Sound.HIT); // Mixed over anything still playing
+                controller.hit(); // The new card is animated when its snapshot arrives
+            }
+        });
+
+        stayButton.addActionListener(new ActionListener() {
+            public void actionPerformed(ActionEvent e) {
+                playSound(AudioMixer.Sound.STAY);
+                hitButton.setEnabled(false);
+                stayButton.setEnabled(false);
+                controller.stay(); // The dealer draws on the game thread
+            }
+        });
+
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                if (audio != null) {
+                    audio.close();
+                }
+                if (history != null) {
+                    controller.closeHistory().join(); // The game thread never waits on the EDT
+                    history.close();
+                }
+                controller.shutdown();
+                System.exit(0);
+            }
+        });
+
+        gamePanel.repaint();
+    }
+
+    private void startGame() {
+        controller.deal();
+    }
+
+    // Called on the game thread; hands the snapshot to the EDT in publication order
+    private void onSnapshot(GameSnapshot snapshot) {
+        SwingUtilities.invokeLater(() -> showSnapshot(snapshot));
+    }
+
+    private void showSnapshot(GameSnapshot next) {
+        GameSnapshot previous = shown;
+        shown = next;
+        updateScores();
+        hitButton.setEnabled(!next.isPlayerTurnOver()); // A bust or a natural ends the turn too
+        stayButton.setEnabled(!next.isPlayerTurnOver());
+
+        // Slide in cards added since the last snapshot; the opening deal just appears
+        if (previous.getPlayerCardCount() > 0) {
+            for (int i = previous.getPlayerCardCount(); i < next.getPlayerCardCount(); i++) {
+                animateCard(TableRenderer.PLAYER_CARD + i, next.getPlayerCard(i), renderer.playerCardX(i), renderer.getPlayerCardY());
+            }
+            for (int i = previous.getDealerCardCount(); i < next.getDealerCardCount(); i++) {
+                animateCard(TableRenderer.DEALER_CARD + i, next.getDealerCard(i), renderer.dealerCardX(i), renderer.getDealerCardY());
+            }
+        }
+
+        if (next.isPlayerTurnOver() != previous.isPlayerTurnOver() || next.isRoundOver() != previous.isRoundOver()
+                || previous.getPlayerCardCount() == 0) {
+            gamePanel.repaint(); // Hidden card flipped, result shown or fresh deal
+        }
+    }
+
+    private void updateScores() {
+        dealerScoreLabel.setText("Dealer: " + shown.getDealerSum());
+        playerScoreLabel.setText("Player: " + shown.getPlayerSum());
+    }
+
+    // Slides a card from the deck area to (toX, toY)
+    private void animateCard(int key, byte card, int toX, int toY) {
+        int deckX = boardWidth / 2 - cardWidth / 2;
+        animationLoop.animate(key, cardImages.get(card), deckX, 0, toX, toY, animationDuration);
+    }
+
+    private void openHistory() {
+        String directory = System.getProperty("blackjack.history");
+        if (directory == null) {
+            return;
+        }
+        try {
+            history = new HandHistoryLog(Path.of(directory));
+        } catch (IOException e) {
+            System.err.println("Hand history disabled: " + e.getMessage());
+            return;
+        }
+        HandHistoryRecorder recorder = new HandHistoryRecorder(history);
+        recorder.session(0, seed, rngAlgorithm, engine.getShoe(), engine.getRules(), engine.getSeats());
+        controller.setRecorder(recorder, 0);
+    }
+
+    private void openAudio() {
+        Thread opener = new Thread(() -> {
+            audio = AudioMixer.open();
+            audio.play(AudioMixer.Sound.WELCOME);
+        }, "audio-open");
+        opener.setDaemon(true);
+        opener.start();
+    }
+
+    // Never blocks; silent until the mixer is open
+    private void playSound(AudioMixer.Sound sound) {
+        AudioMixer mixer = audio;
+        if (mixer != null) {
+            mixer.play(sound);
+        }
+    }
+
+    public static void main(String[] args) {
+        Metrics.install();
+        SwingUtilities.invokeLater(() -> new BlackJack());
+    }
+}
\ No newline at end of file
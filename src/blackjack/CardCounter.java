@@ -0,0 +1,73 @@
+package blackjack;
+
+// Running and true count for one shoe, updated as cards become visible: the
+// engine reports every face-up card as it is dealt and the hidden card when it
+// is turned over. It also keeps the unseen composition per value index so
+// DealerProbabilities can be queried without rescanning the shoe.
+//
+// The counter notices a reshuffle from the shoe's shuffle count and starts over.
+public final class CardCounter {
+    private final CountingSystem system;
+    private final Shoe shoe;
+    private final int[] unseen = new int[DealerProbabilities.VALUES];
+    private long shuffleMark;
+    private int runningCount;
+    private int cardsSeen;
+
+    public CardCounter(CountingSystem system, Shoe shoe) {
+        this.system = system;
+        this.shoe = shoe;
+        reset();
+    }
+
+    public void see(byte card) {
+        if (shoe.getShuffles() != shuffleMark) {
+            reset();
+        }
+        runningCount += system.tag(card);
+        cardsSeen++;
+        unseen[DealerProbabilities.valueIndex(card)]--;
+    }
+
+    public void reset() {
+        shuffleMark = shoe.getShuffles();
+        runningCount = 0;
+        cardsSeen = 0;
+        int decks = shoe.getDecks();
+        for (int i = 0; i < unseen.length - 1; i++) {
+            unseen[i] = 4 * decks;
+        }
+        unseen[unseen.length - 1] = 16 * decks;
+    }
+
+    public int getRunningCount() {
+        return shoe.getShuffles() == shuffleMark ? runningCount : 0;
+    }
+
+    // Unseen cards include any card dealt face down and not yet revealed
+    public int getUnseenCards() {
+        return shoe.getShuffles() == shuffleMark ? shoe.size() - cardsSeen : shoe.size();
+    }
+
+    public double getDecksRemaining() {
+        return (double) getUnseenCards() / Cards.DECK_SIZE;
+    }
+
+    // Running count per deck still unseen
+    public double getTrueCount() {
+        int unseenCards = getUnseenCards();
+        return unseenCards == 0 ? 0 : getRunningCount() * (double) Cards.DECK_SIZE / unseenCards;
+    }
+
+    // Unseen cards per value index (ace first, tens last); must not be modified
+    public int[] getUnseen() {
+        if (shoe.getShuffles() != shuffleMark) {
+            reset();
+        }
+        return unseen;
+    }
+
+    public CountingSystem getSystem() {
+        return system;
+    }
+}
@@ -0,0 +1,82 @@
+package blackjack;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.imageio.ImageIO;
+
+// Every card face, the card back and the table background, decoded once and
+// pre-scaled to their drawn size as images compatible with the screen, so
+// painting is a plain blit with no I/O, decoding or scaling.
+public final class CardImages {
+    private static final String BACKGROUND_PATH = "/Card/Back.jpg";
+    private static final String CARD_BACK_PATH = "/Card/BACK.png";
+
+    private final BufferedImage[] faces = new BufferedImage[Cards.DECK_SIZE];
+    private final BufferedImage cardBack;
+    private final BufferedImage background;
+
+    public CardImages(int cardWidth, int cardHeight, int boardWidth, int boardHeight) {
+        for (int card = 0; card < Cards.DECK_SIZE; card++) {
+            faces[card] = load(Cards.imagePath(card), cardWidth, cardHeight, Transparency.TRANSLUCENT);
+        }
+        cardBack = load(CARD_BACK_PATH, cardWidth, cardHeight, Transparency.TRANSLUCENT);
+        background = load(BACKGROUND_PATH, boardWidth, boardHeight, Transparency.OPAQUE);
+    }
+
+    public BufferedImage get(byte card) {
+        return faces[card];
+    }
+
+    public BufferedImage getCardBack() {
+        return cardBack;
+    }
+
+    public BufferedImage getBackground() {
+        return background;
+    }
+
+    // A missing or unreadable resource is logged and drawn as nothing
+    private static BufferedImage load(String path, int width, int height, int transparency) {
+        try (InputStream in = CardImages.class.getResourceAsStream(path)) {
+            if (in == null) {
+                System.err.println("Missing image resource: " + path);
+                return null;
+            }
+            BufferedImage source = ImageIO.read(in);
+            if (source == null) {
+                System.err.println("Unreadable image resource: " + path);
+                return null;
+            }
+            return scale(source, width, height, transparency);
+        } catch (IOException e) {
+            System.err.println("Error loading image " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static BufferedImage scale(Image source, int width, int height, int transparency) {
+        BufferedImage scaled = createCompatibleImage(width, height, transparency);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        if (GraphicsEnvironment.isHeadless()) {
+            int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB_PRE;
+            return new BufferedImage(width, height, type);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getDefaultScreenDevice()
+                .getDefaultConfiguration()
+                .createCompatibleImage(width, height, transparency);
+    }
+}
@@ -0,0 +1,70 @@
+package blackjack;
+
+// Cards are encoded as a single byte: (rank << 2) | suit, so a deck is a plain
+// byte[] and every per-card property is an array lookup instead of string parsing.
+public final class Cards {
+    public static final int RANKS = 13;
+    public static final int SUITS = 4;
+    public static final int DECK_SIZE = RANKS * SUITS;
+
+    // Rank 0 is the ace, ranks 9-12 are 10, J, Q, K
+    public static final int ACE = 0;
+
+    private static final String[] RANK_NAMES = {"A", "2", "3", "4", "5", "6", "7", "8", "9", "10", "J", "Q", "K"};
+    private static final String[] SUIT_NAMES = {"C", "D", "H", "S"};
+
+    private static final int[] VALUE = new int[DECK_SIZE];
+    private static final boolean[] IS_ACE = new boolean[DECK_SIZE];
+    private static final String[] NAME = new String[DECK_SIZE];
+    private static final String[] IMAGE_PATH = new String[DECK_SIZE];
+
+    static {
+        for (int rank = 0; rank < RANKS; rank++) {
+            for (int suit = 0; suit < SUITS; suit++) {
+                int card = encode(rank, suit);
+                VALUE[card] = rank == ACE ? 11 : Math.min(rank + 1, 10);
+                IS_ACE[card] = rank == ACE;
+                NAME[card] = RANK_NAMES[rank] + "-" + SUIT_NAMES[suit];
+                IMAGE_PATH[card] = "/Card/" + NAME[card] + ".png";
+            }
+        }
+    }
+
+    private Cards() {
+    }
+
+    public static byte encode(int rank, int suit) {
+        return (byte) ((rank << 2) | suit);
+    }
+
+    public static int rank(int card) {
+        return card >> 2;
+    }
+
+    public static int suit(int card) {
+        return card & 3;
+    }
+
+    public static int value(int card) {
+        return VALUE[card];
+    }
+
+    public static boolean isAce(int card) {
+        return IS_ACE[card];
+    }
+
+    public static String name(int card) {
+        return NAME[card];
+    }
+
+    public static String imagePath(int card) {
+        return IMAGE_PATH[card];
+    }
+
+    // Fills a single 52-card deck in rank-major order
+    public static void fillDeck(byte[] deck, int offset) {
+        for (int card = 0; card < DECK_SIZE; card++) {
+            deck[offset + card] = (byte) card;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package blackjack;
+
+import java.util.Locale;
+
+// A card-counting system: one tag per rank, added to the running count as each
+// card is seen. Tags are expanded per encoded card so a lookup is one array read.
+public final class CountingSystem {
+    //                                                A   2  3  4  5  6  7  8  9   T   J   Q   K
+    public static final CountingSystem HI_LO = new CountingSystem("Hi-Lo", -1, 1, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1);
+    public static final CountingSystem HI_OPT_I = new CountingSystem("Hi-Opt I", 0, 0, 1, 1, 1, 1, 0, 0, 0, -1, -1, -1, -1);
+    public static final CountingSystem HI_OPT_II = new CountingSystem("Hi-Opt II", 0, 1, 1, 2, 2, 1, 1, 0, 0, -2, -2, -2, -2);
+    public static final CountingSystem OMEGA_II = new CountingSystem("Omega II", 0, 1, 1, 2, 2, 2, 1, 0, -1, -2, -2, -2, -2);
+    public static final CountingSystem ZEN = new CountingSystem("Zen", -1, 1, 1, 2, 2, 2, 1, 0, 0, -2, -2, -2, -2);
+
+    private final String name;
+    private final int[] rankTags;
+    private final int[] cardTags = new int[Cards.RANKS * Cards.SUITS];
+
+    // Tags are given per rank, ace first
+    public CountingSystem(String name, int... rankTags) {
+        if (rankTags.length != Cards.RANKS) {
+            throw new IllegalArgumentException("Expected " + Cards.RANKS + " tags, got " + rankTags.length);
+        }
+        this.name = name;
+        this.rankTags = rankTags.clone();
+        for (int rank = 0; rank < Cards.RANKS; rank++) {
+            for (int suit = 0; suit < Cards.SUITS; suit++) {
+                cardTags[Cards.encode(rank, suit)] = rankTags[rank];
+            }
+        }
+    }
+
+    // "hilo", "hiopt1", "hiopt2", "omega2" or "zen"
+    public static CountingSystem named(String name) {
+        switch (name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "")) {
+            case "hilo": return HI_LO;
+            case "hiopt1": case "hiopti": return HI_OPT_I;
+            case "hiopt2": case "hioptii": return HI_OPT_II;
+            case "omega2": case "omegaii": return OMEGA_II;
+            case "zen": return ZEN;
+            default: throw new IllegalArgumentException("Unknown counting system: " + name);
+        }
+    }
+
+    public int tag(byte card) {
+        return cardTags[card];
+    }
+
+    public int rankTag(int rank) {
+        return rankTags[rank];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
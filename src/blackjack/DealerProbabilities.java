@@ -0,0 +1,198 @@
+package blackjack;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Exact distribution of the dealer's final total (17, 18, 19, 20, 21, bust) for an
+// up-card and the composition of the cards left in the shoe, following the
+// engine's rule: draw until the ace-reduced total reaches 17, and optionally hit
+// a soft 17. With `peek` the distribution is conditioned on the dealer not having
+// a natural, as the engine checks for one before the players act.
+//
+// Compositions are counts per value: index 0 is the ace, 1..8 are 2..9 and 9 is
+// every ten-valued card. They are packed into a long (6 bits per rank, 8 for the
+// tens, so up to 8 decks) which keys both the memo inside one calculation and
+// the cache of finished answers.
+public final class DealerProbabilities {
+    public static final int OUTCOMES = 6;
+    public static final int BUST = 5;
+    public static final int VALUES = 10;
+    public static final int MAX_DECKS = 8;
+    public static final int DEFAULT_CACHE_SIZE = 100_000;
+
+    private final int cacheSize;
+    private final boolean hitsSoft17;
+    private final boolean peek;
+    // One cache per up-card value, keyed by packed composition
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ConcurrentHashMap<Long, double[]>[] cache = new ConcurrentHashMap[VALUES];
+
+    public DealerProbabilities() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    public DealerProbabilities(int cacheSize) {
+        this(false, false, cacheSize);
+    }
+
+    public DealerProbabilities(boolean hitsSoft17, boolean peek, int cacheSize) {
+        this.cacheSize = cacheSize;
+        this.hitsSoft17 = hitsSoft17;
+        this.peek = peek;
+        for (int i = 0; i < VALUES; i++) {
+            cache[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    public static int valueIndex(int card) {
+        return Cards.isAce(card) ? 0 : Cards.value(card) - 1;
+    }
+
+    // Counts per value index for a full shoe of `decks` decks
+    public static int[] fullShoe(int decks) {
+        int[] counts = new int[VALUES];
+        for (int i = 0; i < VALUES - 1; i++) {
+            counts[i] = 4 * decks;
+        }
+        counts[VALUES - 1] = 16 * decks;
+        return counts;
+    }
+
+    // Probability of each final dealer total given the up-card and the cards
+    // still in the shoe (the up-card and every other card seen already removed).
+    // The returned array is shared with the cache and must not be modified.
+    public double[] distribution(int upCardIndex, int[] counts) {
+        long key = pack(counts);
+        double[] cached = cache[upCardIndex].get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int[] work = counts.clone();
+        int remaining = 0;
+        for (int count : work) {
+            remaining += count;
+        }
+        int upValue = upCardIndex == 0 ? 11 : upCardIndex + 1;
+        int softAces = upCardIndex == 0 ? 1 : 0;
+        HashMap<Long, double[]> memo = new HashMap<>();
+        double[] result;
+        int natural = !peek ? -1 : upCardIndex == 0 ? VALUES - 1 : upCardIndex == VALUES - 1 ? 0 : -1;
+        if (natural < 0) {
+            result = draw(upValue, softAces, work, remaining, memo);
+        } else {
+            // The hole card is known not to complete a natural
+            result = new double[OUTCOMES];
+            int allowed = remaining - work[natural];
+            for (int value = 0; value < VALUES; value++) {
+                if (value != natural && work[value] > 0) {
+                    addDraw(result, (double) work[value] / allowed, upValue, softAces, value, work, remaining, memo);
+                }
+            }
+        }
+
+        if (cache[upCardIndex].size() >= cacheSize) {
+            cache[upCardIndex].clear(); // Crude bound; live shoes rarely revisit old compositions
+        }
+        cache[upCardIndex].put(key, result);
+        return result;
+    }
+
+    // Expected result of standing on `playerTotal`: +1 win, 0 push, -1 loss
+    public double standExpectation(int playerTotal, int upCardIndex, int[] counts) {
+        if (playerTotal > GameEngine.BLACKJACK) {
+            return -1;
+        }
+        double[] dealer = distribution(upCardIndex, counts);
+        double expectation = dealer[BUST];
+        for (int total = GameEngine.DEALER_STAND; total <= GameEngine.BLACKJACK; total++) {
+            double p = dealer[total - GameEngine.DEALER_STAND];
+            if (playerTotal > total) {
+                expectation += p;
+            } else if (playerTotal < total) {
+                expectation -= p;
+            }
+        }
+        return expectation;
+    }
+
+    // Within one calculation the composition alone identifies the dealer's hand,
+    // since everything missing from the starting composition was drawn by the dealer
+    private double[] draw(int total, int softAces, int[] counts, int remaining, HashMap<Long, double[]> memo) {
+        if (total > GameEngine.DEALER_STAND || (total == GameEngine.DEALER_STAND && !(hitsSoft17 && softAces > 0))) {
+            double[] result = new double[OUTCOMES];
+            result[total > GameEngine.BLACKJACK ? BUST : total - GameEngine.DEALER_STAND] = 1;
+            return result;
+        }
+        long key = pack(counts);
+        double[] known = memo.get(key);
+        if (known != null) {
+            return known;
+        }
+
+        double[] result = new double[OUTCOMES];
+        for (int value = 0; value < VALUES; value++) {
+            if (counts[value] > 0) {
+                addDraw(result, (double) counts[value] / remaining, total, softAces, value, counts, remaining, memo);
+            }
+        }
+        memo.put(key, result);
+        return result;
+    }
+
+    // Adds p times the distribution after drawing a card of `value` to result
+    private void addDraw(double[] result, double p, int total, int softAces, int value, int[] counts, int remaining,
+                         HashMap<Long, double[]> memo) {
+        int nextTotal = total + (value == 0 ? 11 : value + 1);
+        int nextSoft = softAces + (value == 0 ? 1 : 0);
+        while (nextTotal > GameEngine.BLACKJACK && nextSoft > 0) {
+            nextTotal -= 10;
+            nextSoft--;
+        }
+        counts[value]--;
+        double[] next = draw(nextTotal, nextSoft, counts, remaining - 1, memo);
+        counts[value]++;
+        for (int i = 0; i < OUTCOMES; i++) {
+            result[i] += p * next[i];
+        }
+    }
+
+    static long pack(int[] counts) {
+        long key = 0;
+        for (int i = 0; i < VALUES - 1; i++) {
+            if (counts[i] < 0 || counts[i] > 4 * MAX_DECKS) {
+                throw new IllegalArgumentException("Count out of range for value index " + i + ": " + counts[i]);
+            }
+            key = (key << 6) | counts[i];
+        }
+        int tens = counts[VALUES - 1];
+        if (tens < 0 || tens > 16 * MAX_DECKS) {
+            throw new IllegalArgumentException("Ten count out of range: " + tens);
+        }
+        return (key << 8) | tens;
+    }
+
+    // Prints the dealer distribution for each up-card from a fresh shoe and query times
+    public static void main(String[] args) {
+        int decks = args.length > 0 ? Integer.parseInt(args[0]) : Shoe.DEFAULT_DECKS;
+        DealerProbabilities probabilities = new DealerProbabilities();
+        System.out.println("Up      17      18      19      20      21    Bust   first(us) cached(us)");
+        for (int up = 0; up < VALUES; up++) {
+            int[] counts = fullShoe(decks);
+            counts[up]--;
+
+            long start = System.nanoTime();
+            double[] result = probabilities.distribution(up, counts);
+            long first = System.nanoTime() - start;
+            start = System.nanoTime();
+            probabilities.distribution(up, counts);
+            long cached = System.nanoTime() - start;
+
+            StringBuilder row = new StringBuilder(String.format("%-3s", up == 0 ? "A" : up == 9 ? "T" : String.valueOf(up + 1)));
+            for (double p : result) {
+                row.append(String.format(" %7.4f", p));
+            }
+            row.append(String.format(" %10.1f %10.2f", first / 1e3, cached / 1e3));
+            System.out.println(row);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package blackjack;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// Runs one table's engine on a serial game executor. Player actions are queued to
+// it, the dealer's draws are scheduled onto it with a delay between them, and
+// after every change an immutable GameSnapshot is published atomically. Nothing
+// outside the game executor touches the engine.
+// Latencies go to Metrics.GLOBAL, measured from the call to the published
+// snapshot, so time queued behind other tables' work is included. The same
+// lifecycle is emitted as GameEvents for Flight Recorder.
+public class GameController {
+    private static final LongAdder DEALS = Metrics.GLOBAL.counter("game.deals");
+    private static final LongAdder DEALS_REFUSED = Metrics.GLOBAL.counter("game.dealsRefused");
+    private static final LongAdder HITS = Metrics.GLOBAL.counter("game.hits");
+    private static final LongAdder STAYS = Metrics.GLOBAL.counter("game.stays");
+    private static final LatencyHistogram DEAL_TIME = Metrics.GLOBAL.histogram("game.deal");
+    private static final LatencyHistogram HIT_TIME = Metrics.GLOBAL.histogram("game.hit");
+    private static final LatencyHistogram STAY_TO_RESULT = Metrics.GLOBAL.histogram("game.stayToResult"); // Dealer delays included
+    private static final LatencyHistogram ROUND_TIME = Metrics.GLOBAL.histogram("game.round");
+
+    private final GameEngine engine;
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final boolean ownsTimer;
+    private final long dealerDelayMillis;
+    private final Consumer<GameSnapshot> listener;
+
+    // Optional wagering: every finished round is settled at `bet` chips
+    private TableLedger ledger;
+    private volatile long bet = Ledger.DEFAULT_BET;
+
+    // Optional hand history, flushed and detached by closeHistory()
+    private HandHistoryRecorder recorder;
+
+    private volatile GameSnapshot snapshot = GameSnapshot.EMPTY;
+    private long version; // Game executor only
+    private boolean dealing; // Game executor only: a round is in progress
+    private long round; // Game executor only: stale dealer draws from an earlier round are dropped
+    private long roundStarted; // Game executor only: nanoTime of the current round's deal() call
+    private long stayRequested; // Game executor only: nanoTime of the stay that ended the turn, or 0
+    private GameEvents.Round roundEvent; // Game executor only: open until the round is settled
+    private GameEvents.DealerTurn dealerEvent; // Game executor only: open during the dealer's turn
+    private volatile long tableId; // Labels the Flight Recorder events
+
+    // Standalone table with its own game thread, which also paces the dealer
+    public GameController(GameEngine engine, long dealerDelayMillis, Consumer<GameSnapshot> listener) {
+        this(engine, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game");
+            thread.setDaemon(true);
+            return thread;
+        }), dealerDelayMillis, listener, true);
+    }
+
+    // Table sharing threads with others: `executor` must run tasks one at a time
+    // (e.g. a SerialExecutor) and `timer` only hands delayed dealer draws over to it
+    public GameController(GameEngine engine, Executor executor, ScheduledExecutorService timer,
+                          long dealerDelayMillis, Consumer<GameSnapshot> listener) {
+        this.engine = engine;
+        this.executor = executor;
+        this.timer = timer;
+        this.ownsTimer = false;
+        this.dealerDelayMillis = dealerDelayMillis;
+        this.listener = listener;
+    }
+
+    private GameController(GameEngine engine, ScheduledExecutorService thread, long dealerDelayMillis,
+                           Consumer<GameSnapshot> listener, boolean ownsTimer) {
+        this.engine = engine;
+        this.executor = thread;
+        this.timer = thread;
+        this.ownsTimer = ownsTimer;
+        this.dealerDelayMillis = dealerDelayMillis;
+        this.listener = listener;
+    }
+
+    // Set before the first deal
+    public void setLedger(TableLedger ledger) {
+        this.ledger = ledger;
+    }
+
+    // Set before the first deal, after the session has been recorded; the
+    // controller closes the recorder
+    public void setRecorder(HandHistoryRecorder recorder, int tableId) {
+        this.recorder = recorder;
+        engine.setRecorder(recorder, tableId);
+    }
+
+    // Detaches and flushes the hand history on the game executor, after any
+    // action already queued; completes once the events are in the log
+    public CompletableFuture<Void> closeHistory() {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (recorder != null) {
+                engine.setRecorder(null, 0);
+                recorder.close();
+                recorder = null;
+            }
+            closed.complete(null);
+        });
+        return closed;
+    }
+
+    // Set before the first deal
+    public void setTableId(long tableId) {
+        this.tableId = tableId;
+    }
+
+    // Chips per base bet from the next settled round on
+    public void setBet(long bet) {
+        if (bet <= 0) {
+            throw new IllegalArgumentException("Bet must be positive: " + bet);
+        }
+        this.bet = bet;
+    }
+
+    public long getBet() {
+        return bet;
+    }
+
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // Tables only offer hit and stay, so insurance is always declined; a
+    // natural on either side ends the round straight away. Refused while a round
+    // is open, the dealer's turn included, so every round is settled before the
+    // next one starts; completes with whether the round was dealt.
+    public CompletableFuture<Boolean> deal() {
+        long requested = System.nanoTime();
+        CompletableFuture<Boolean> dealt = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (dealing) {
+                DEALS_REFUSED.increment();
+                dealt.complete(false);
+                return;
+            }
+            GameEvents.Action event = beginAction(requested);
+            roundEvent = new GameEvents.Round();
+            roundEvent.begin();
+            engine.startRound();
+            if (engine.isInsuranceOffered()) {
+                engine.insure(false);
+            }
+            round++;
+            dealing = true;
+            roundStarted = requested;
+            stayRequested = 0;
+            afterAction();
+            DEALS.increment();
+            DEAL_TIME.recordSince(requested);
+            commitAction(event, "deal");
+            dealt.complete(true);
+        });
+        return dealt;
+    }
+
+    // Ignored once the player's turn is over or before the first deal
+    public void hit() {
+        long requested = System.nanoTime();
+        executor.execute(() -> {
+            if (dealing && !engine.isRoundOver()) {
+                GameEvents.Action event = beginAction(requested);
+                engine.hit();
+                afterAction();
+                HITS.increment();
+                HIT_TIME.recordSince(requested);
+                commitAction(event, "hit");
+            }
+        });
+    }
+
+    public void stay() {
+        long requested = System.nanoTime();
+        executor.execute(() -> {
+            if (dealing && !engine.isRoundOver()) {
+                GameEvents.Action event = beginAction(requested);
+                STAYS.increment();
+                stayRequested = requested;
+                engine.stand();
+                afterAction();
+                commitAction(event, "stay");
+            }
+        });
+    }
+
+    // A bust, a natural or the last stand ends the turn and starts the dealer
+    private void afterAction() {
+        if (engine.isRoundOver()) {
+            dealerEvent = new GameEvents.DealerTurn();
+            dealerEvent.begin();
+            publish(!engine.dealerShouldDraw());
+            scheduleDealerDraw();
+        } else {
+            publish(false);
+        }
+    }
+
+    // Stops the game thread of a standalone table; shared executors are left to their owner
+    public void shutdown() {
+        if (ownsTimer) {
+            timer.shutdownNow();
+        }
+    }
+
+    private void scheduleDealerDraw() {
+        if (!engine.dealerShouldDraw()) {
+            dealing = false;
+            return;
+        }
+        long scheduledRound = round;
+        Runnable draw = () -> {
+            if (scheduledRound != round) {
+                return;
+            }
+            engine.dealerDraw();
+            publish(!engine.dealerShouldDraw());
+            scheduleDealerDraw();
+        };
+        if (timer == executor) {
+            timer.schedule(draw, dealerDelayMillis, TimeUnit.MILLISECONDS);
+        } else {
+            timer.schedule(() -> executor.execute(draw), dealerDelayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Starts when the game executor picks the request up; the wait before is `queued`
+    private GameEvents.Action beginAction(long requested) {
+        GameEvents.Action event = new GameEvents.Action();
+        event.begin();
+        event.queued = System.nanoTime() - requested;
+        return event;
+    }
+
+    private void commitAction(GameEvents.Action event, String action) {
+        if (event.shouldCommit()) {
+            event.tableId = tableId;
+            event.round = round;
+            event.action = action;
+            event.cardsDealt = GameEvents.cardsDealt(engine);
+            event.commit();
+        }
+    }
+
+    private void commitRoundEvents() {
+        if (dealerEvent != null && dealerEvent.shouldCommit()) {
+            dealerEvent.tableId = tableId;
+            dealerEvent.round = round;
+            dealerEvent.dealerCards = engine.getDealerHand().size();
+            dealerEvent.dealerTotal = engine.getDealerSum();
+            dealerEvent.commit();
+        }
+        if (roundEvent != null && roundEvent.shouldCommit()) {
+            roundEvent.tableId = tableId;
+            roundEvent.round = round;
+            roundEvent.seats = engine.getSeats();
+            roundEvent.cardsDealt = GameEvents.cardsDealt(engine);
+            roundEvent.net = engine.getNet();
+            roundEvent.outcome = engine.getOutcome(0, 0).name();
+            roundEvent.commit();
+        }
+        dealerEvent = null;
+        roundEvent = null;
+    }
+
+    // Called with dealerDone exactly once per round, when it is settled
+    private void publish(boolean dealerDone) {
+        if (dealerDone) {
+            if (ledger != null) {
+                ledger.settle(engine, bet);
+            }
+            commitRoundEvents();
+            long now = System.nanoTime();
+            ROUND_TIME.record(now - roundStarted);
+            if (stayRequested != 0) {
+                STAY_TO_RESULT.record(now - stayRequested);
+                stayRequested = 0;
+            }
+        }
+        GameSnapshot next = GameSnapshot.of(++version, engine, dealerDone);
+        snapshot = next;
+        if (listener != null) {
+            listener.accept(next);
+        }
+    }
+}
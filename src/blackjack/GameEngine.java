@@ -0,0 +1,597 @@
+package blackjack;
+
+import java.util.random.RandomGenerator;
+
+// Headless game logic: shoe, dealer and player hands with no Swing dependencies.
+// The Swing table drives one of these; the simulator drives many.
+// Cards are bytes (see Cards) and hands are reused, so a round allocates nothing.
+//
+// A table has 1..MAX_SEATS seats sharing the dealer's hand and the shoe. The
+// dealer takes the hidden card and the up-card, then every seat gets its first
+// card and then its second, going round the seats in order. Seats act one after
+// another and the dealer plays once for all of them.
+//
+// Each seat starts on one hand and can split into up to Rules.getMaxHands()
+// hands, played left to right; the hands are preallocated slots and a split only
+// moves one card into the next free slot. The dealer peeks for blackjack before
+// anyone acts (after the insurance decisions when an ace is showing); a dealer
+// blackjack ends the round and a seat with a natural has nothing to play.
+public class GameEngine {
+    public static final int BLACKJACK = 21;
+    public static final int DEALER_STAND = 17;
+    public static final int MAX_SEATS = 7;
+    // Cards kept back for a round: the shoe is reshuffled before a round that would
+    // likely run it dry (at most 22 cards for one seat and 51 for seven were seen
+    // in millions of basic-strategy rounds). A longer round is still played out:
+    // the shoe shuffles its discards back in mid-round.
+    static final int DEALER_RESERVE = 20;
+    static final int SEAT_RESERVE = 8;
+
+    private final Shoe shoe;
+    private final Rules rules;
+    private final int seats;
+    private final int reserve;
+
+    // Dealer: the first card in the hand is the hidden card
+    private final Hand dealerHand = new Hand();
+
+    // Players: playerHands[seat][0..handCounts[seat]) are in play and
+    // playerHands[activeSeat][activeHand] is being played
+    private final Hand[][] playerHands;
+    private final int[] handCounts;
+    private final boolean[] insured;
+    private int activeSeat;
+    private int activeHand;
+
+    private boolean roundOver; // Every seat's turn is over; the dealer may still draw
+    private boolean playerLive; // Some hand still needs the dealer's total
+    private int insuranceSeat; // Next seat to decide on insurance; `seats` once the dealer has peeked
+    private long round;
+
+    // Optional hand history; events are only built when a recorder is attached
+    private HandHistoryRecorder recorder;
+    private int tableId;
+
+    // Optional card counter; sees face-up cards as dealt and the hidden card on reveal
+    private CardCounter counter;
+
+    public GameEngine() {
+        this(RandomSource.create(RandomSource.newSeed()));
+    }
+
+    public GameEngine(RandomGenerator random) {
+        this(new Shoe(Shoe.DEFAULT_DECKS, Shoe.DEFAULT_PENETRATION, random));
+    }
+
+    public GameEngine(Shoe shoe) {
+        this(shoe, Rules.DEFAULT);
+    }
+
+    public GameEngine(Shoe shoe, Rules rules) {
+        this(shoe, rules, 1);
+    }
+
+    public GameEngine(Shoe shoe, Rules rules, int seats) {
+        if (seats < 1 || seats > MAX_SEATS) {
+            throw new IllegalArgumentException("Seats must be between 1 and " + MAX_SEATS + ": " + seats);
+        }
+        this.reserve = DEALER_RESERVE + SEAT_RESERVE * seats;
+        if (shoe.size() < reserve) {
+            throw new IllegalArgumentException("A shoe of " + shoe.size() + " cards cannot hold a round for "
+                    + seats + " seats; it needs " + reserve);
+        }
+        this.shoe = shoe;
+        this.rules = rules;
+        this.seats = seats;
+        this.playerHands = new Hand[seats][rules.getMaxHands()];
+        for (Hand[] seatHands : playerHands) {
+            for (int i = 0; i < seatHands.length; i++) {
+                seatHands[i] = new Hand();
+            }
+        }
+        this.handCounts = new int[seats];
+        this.insured = new boolean[seats];
+    }
+
+    public void setRecorder(HandHistoryRecorder recorder, int tableId) {
+        this.recorder = recorder;
+        this.tableId = tableId;
+    }
+
+    public void setCounter(CardCounter counter) {
+        this.counter = counter;
+    }
+
+    public CardCounter getCounter() {
+        return counter;
+    }
+
+    public void startRound() {
+        // The shoe carries over between rounds until the cut card comes out
+        boolean shuffled = shoe.shuffleIfNeeded(reserve);
+        shoe.startRound();
+        round++;
+        if (shuffled && recorder != null) {
+            recordShuffle();
+        }
+
+        // Dealer
+        dealerHand.clear();
+        deal(dealerHand, HandEvent.DEALER, false); // Hidden card
+        deal(dealerHand, HandEvent.DEALER, true);
+
+        // Players, one card at a time round the table
+        for (int seat = 0; seat < seats; seat++) {
+            for (int i = 0; i < handCounts[seat]; i++) {
+                playerHands[seat][i].clear();
+            }
+            playerHands[seat][0].clear();
+            handCounts[seat] = 1;
+            insured[seat] = false;
+        }
+        for (int card = 0; card < 2; card++) {
+            for (int seat = 0; seat < seats; seat++) {
+                deal(playerHands[seat][0], HandEvent.player(seat, 0), true);
+            }
+        }
+
+        roundOver = false;
+        activeSeat = 0;
+        activeHand = 0;
+        insuranceSeat = rules.isInsurance() && Cards.isAce(getDealerUpCard()) ? 0 : seats;
+        if (insuranceSeat == seats) {
+            peek();
+        }
+    }
+
+    private void deal(Hand hand, byte who, boolean faceUp) {
+        byte card = draw();
+        hand.add(card);
+        if (faceUp && counter != null) {
+            counter.see(card);
+        }
+        if (recorder != null) {
+            recorder.record(HandEvent.DEAL, card, hand.getSum(), who, tableId, round);
+        }
+    }
+
+    // A dealer blackjack ends the round before anyone acts
+    private void peek() {
+        if (isDealerBlackjack()) {
+            activeSeat = seats;
+            endPlayerTurn();
+        } else {
+            nextSeat(0);
+        }
+    }
+
+    // Half a bet, for the seat getInsuranceSeat(), that the hidden card makes a
+    // dealer blackjack, paying 2:1. Every seat decides in turn while
+    // isInsuranceOffered(); an action taken first declines for the rest.
+    public void insure(boolean take) {
+        if (insuranceSeat == seats) {
+            throw new IllegalStateException("Insurance is not on offer");
+        }
+        insured[insuranceSeat] = take;
+        if (recorder != null) {
+            recorder.record(HandEvent.INSURANCE, HandEvent.NO_CARD, take ? 1 : 0, HandEvent.player(insuranceSeat, 0),
+                    tableId, round);
+        }
+        if (++insuranceSeat == seats) {
+            peek();
+        }
+    }
+
+    // Declines pending insurance; true if the dealer's peek then ended the round
+    private boolean beginAction() {
+        if (roundOver) {
+            throw new IllegalStateException("Round is over");
+        }
+        while (insuranceSeat < seats) {
+            insure(false);
+        }
+        return roundOver;
+    }
+
+    public byte hit() {
+        if (beginAction()) {
+            return HandEvent.NO_CARD;
+        }
+        if (!canHit()) {
+            throw new IllegalStateException("Split aces take one card");
+        }
+        Hand hand = playerHands[activeSeat][activeHand];
+        byte card = draw();
+        hand.add(card);
+        if (counter != null) {
+            counter.see(card);
+        }
+        if (recorder != null) {
+            recorder.record(HandEvent.HIT, card, hand.getSum(), HandEvent.player(activeSeat, activeHand), tableId, round);
+        }
+        if (hand.isBust()) {
+            nextHand();
+        }
+        return card;
+    }
+
+    // Stands on the active hand; after the last seat's last hand the turn is over
+    public void stand() {
+        if (beginAction()) {
+            return;
+        }
+        if (recorder != null) {
+            recorder.record(HandEvent.STAY, HandEvent.NO_CARD, playerHands[activeSeat][activeHand].getSum(),
+                    HandEvent.player(activeSeat, activeHand), tableId, round);
+        }
+        nextHand();
+    }
+
+    // Stands on the active hand and, if that ends the players' turn, plays the
+    // dealer's hand out in one go
+    public void stay() {
+        stand();
+        while (dealerShouldDraw()) {
+            dealerDraw();
+        }
+    }
+
+    // Doubles the bet on a two-card hand and draws exactly one more card
+    public byte doubleDown() {
+        if (beginAction()) {
+            return HandEvent.NO_CARD;
+        }
+        if (!canDouble()) {
+            throw new IllegalStateException("Cannot double this hand");
+        }
+        Hand hand = playerHands[activeSeat][activeHand];
+        hand.setBet(2 * hand.getBet());
+        byte card = draw();
+        hand.add(card);
+        if (counter != null) {
+            counter.see(card);
+        }
+        if (recorder != null) {
+            recorder.record(HandEvent.DOUBLE, card, hand.getSum(), HandEvent.player(activeSeat, activeHand), tableId, round);
+        }
+        nextHand();
+        return card;
+    }
+
+    // Splits a pair: the second card moves to a new hand right after this one,
+    // and each hand gets its second card when it comes up for play
+    public void split() {
+        if (beginAction()) {
+            return;
+        }
+        if (!canSplit()) {
+            throw new IllegalStateException("Cannot split this hand");
+        }
+        Hand[] seatHands = playerHands[activeSeat];
+        int handCount = handCounts[activeSeat];
+        Hand hand = seatHands[activeHand];
+        Hand added = seatHands[handCount];
+        for (int i = handCount; i > activeHand + 1; i--) {
+            seatHands[i] = seatHands[i - 1];
+        }
+        seatHands[activeHand + 1] = added;
+        handCounts[activeSeat]++;
+
+        added.clear();
+        byte moved = hand.removeLast();
+        added.add(moved);
+        added.setBet(hand.getBet());
+        added.setSplit(true);
+        hand.setSplit(true);
+        if (recorder != null) {
+            recorder.record(HandEvent.SPLIT, moved, hand.getSum(), HandEvent.player(activeSeat, activeHand), tableId, round);
+        }
+
+        deal(hand, HandEvent.player(activeSeat, activeHand), true);
+        if (isSplitAcesDone(hand)) {
+            nextHand();
+        }
+    }
+
+    // Gives up half the bet; only as the seat's first decision on its opening hand
+    public void surrender() {
+        if (beginAction()) {
+            return;
+        }
+        if (!canSurrender()) {
+            throw new IllegalStateException("Cannot surrender now");
+        }
+        Hand hand = playerHands[activeSeat][activeHand];
+        hand.setSurrendered(true);
+        if (recorder != null) {
+            recorder.record(HandEvent.SURRENDER, HandEvent.NO_CARD, hand.getSum(), HandEvent.player(activeSeat, activeHand),
+                    tableId, round);
+        }
+        nextSeat(activeSeat + 1);
+    }
+
+    public boolean canHit() {
+        return !roundOver && !isSplitAces(playerHands[activeSeat][activeHand]);
+    }
+
+    public boolean canDouble() {
+        Hand hand = getActivePlayerHand();
+        return canHit() && hand.size() == 2 && (!hand.isSplit() || rules.isDoubleAfterSplit());
+    }
+
+    public boolean canSplit() {
+        Hand hand = getActivePlayerHand();
+        return !roundOver && hand.isPair() && handCounts[activeSeat] < rules.getMaxHands()
+                && (!Cards.isAce(hand.get(0)) || !hand.isSplit() || rules.isResplitAces());
+    }
+
+    public boolean canSurrender() {
+        Hand hand = getActivePlayerHand();
+        return !roundOver && rules.isSurrender() && handCounts[activeSeat] == 1 && hand.size() == 2;
+    }
+
+    private boolean isSplitAces(Hand hand) {
+        return hand.isSplit() && Cards.isAce(hand.get(0)) && !rules.isHitSplitAces();
+    }
+
+    // Split aces stand on their second card unless they can be split again
+    private boolean isSplitAcesDone(Hand hand) {
+        return isSplitAces(hand)
+                && !(rules.isResplitAces() && hand.isPair() && handCounts[activeSeat] < rules.getMaxHands());
+    }
+
+    // Moves on to the next hand still to be played, dealing split hands their
+    // second card on the way, then on to the next seat
+    private void nextHand() {
+        activeHand++;
+        while (activeHand < handCounts[activeSeat]) {
+            Hand hand = playerHands[activeSeat][activeHand];
+            if (hand.size() == 1) {
+                deal(hand, HandEvent.player(activeSeat, activeHand), true);
+            }
+            if (!isSplitAcesDone(hand)) {
+                return;
+            }
+            activeHand++;
+        }
+        nextSeat(activeSeat + 1);
+    }
+
+    // First seat from `seat` on without a natural; ends the turn after the last
+    private void nextSeat(int seat) {
+        while (seat < seats && playerHands[seat][0].isBlackjack()) {
+            seat++;
+        }
+        activeSeat = seat;
+        activeHand = 0;
+        if (seat == seats) {
+            endPlayerTurn();
+        }
+    }
+
+    private void endPlayerTurn() {
+        roundOver = true;
+        playerLive = false;
+        for (int seat = 0; seat < seats; seat++) {
+            for (int i = 0; i < handCounts[seat]; i++) {
+                Hand hand = playerHands[seat][i];
+                playerLive |= !hand.isBust() && !hand.isSurrendered() && !hand.isBlackjack();
+            }
+        }
+        if (counter != null) {
+            counter.see(getHiddenCard());
+        }
+        if (recorder != null) {
+            recordOutcomeIfDone();
+        }
+    }
+
+    // The round needed the dealer's hand played out: some hand was still standing
+    public boolean isDealerPlayed() {
+        return roundOver && playerLive;
+    }
+
+    // The dealer only draws while some player hand is still standing
+    public boolean dealerShouldDraw() {
+        if (!roundOver || !playerLive) {
+            return false;
+        }
+        int sum = dealerHand.getSum();
+        return sum < DEALER_STAND || (sum == DEALER_STAND && dealerHand.isSoft() && rules.isDealerHitsSoft17());
+    }
+
+    public byte dealerDraw() {
+        byte card = draw();
+        dealerHand.add(card);
+        if (counter != null) {
+            counter.see(card);
+        }
+        if (recorder != null) {
+            recorder.record(HandEvent.DEALER_DRAW, card, dealerHand.getSum(), HandEvent.DEALER, tableId, round);
+            recordOutcomeIfDone();
+        }
+        return card;
+    }
+
+    private void recordOutcomeIfDone() {
+        if (!dealerShouldDraw()) {
+            for (int seat = 0; seat < seats; seat++) {
+                for (int i = 0; i < handCounts[seat]; i++) {
+                    recorder.record(HandEvent.OUTCOME, HandEvent.NO_CARD, getOutcome(seat, i).ordinal(),
+                            HandEvent.player(seat, i), tableId, round);
+                }
+            }
+        }
+    }
+
+    // The first seat's opening hand
+    public Outcome getOutcome() {
+        return getOutcome(0, 0);
+    }
+
+    // Same ordering as the win/lose/tie message on the table, with naturals settled first
+    public Outcome getOutcome(int seat, int index) {
+        Hand hand = playerHands[seat][index];
+        int playerSum = hand.getSum();
+        int dealerSum = dealerHand.getSum();
+        if (hand.isSurrendered()) {
+            return Outcome.SURRENDER;
+        } else if (playerSum > BLACKJACK) {
+            return Outcome.LOSE;
+        } else if (hand.isBlackjack()) {
+            return isDealerBlackjack() ? Outcome.TIE : Outcome.BLACKJACK;
+        } else if (isDealerBlackjack()) {
+            return Outcome.LOSE;
+        } else if (dealerSum > BLACKJACK) {
+            return Outcome.WIN;
+        } else if (playerSum == dealerSum) {
+            return Outcome.TIE;
+        } else if (playerSum > dealerSum) {
+            return Outcome.WIN;
+        } else {
+            return Outcome.LOSE;
+        }
+    }
+
+    // Net result of the finished round in base bets over every seat, insurance included
+    public double getNet() {
+        double net = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            net += getNet(seat);
+        }
+        return net;
+    }
+
+    public double getNet(int seat) {
+        double net = 0;
+        for (int i = 0; i < handCounts[seat]; i++) {
+            net += getOutcome(seat, i).payout(playerHands[seat][i].getBet(), rules);
+        }
+        if (insured[seat]) {
+            net += isDealerBlackjack() ? 1 : -0.5;
+        }
+        return net;
+    }
+
+    // Base bets put at risk this round over every seat
+    public double getWagered() {
+        double wagered = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            wagered += getWagered(seat);
+        }
+        return wagered;
+    }
+
+    // Every hand's bet plus any insurance
+    public double getWagered(int seat) {
+        double wagered = insured[seat] ? 0.5 : 0;
+        for (int i = 0; i < handCounts[seat]; i++) {
+            wagered += playerHands[seat][i].getBet();
+        }
+        return wagered;
+    }
+
+    public boolean isDealerBlackjack() {
+        return dealerHand.size() == 2 && dealerHand.getSum() == BLACKJACK;
+    }
+
+    private byte draw() {
+        boolean reshuffles = shoe.remaining() == 0; // The discards go back in mid-round
+        byte card = shoe.draw();
+        if (reshuffles && recorder != null) {
+            recordShuffle();
+        }
+        return card;
+    }
+
+    private void recordShuffle() {
+        recorder.record(HandEvent.SHUFFLE, HandEvent.NO_CARD, 0, HandEvent.DEALER, tableId, shoe.getShuffles());
+    }
+
+    // Whether the next startRound() deals from a freshly shuffled shoe
+    public boolean isShuffleDue() {
+        return shoe.isShuffleDue(reserve);
+    }
+
+    public Shoe getShoe() {
+        return shoe;
+    }
+
+    public Rules getRules() {
+        return rules;
+    }
+
+    public int getSeats() {
+        return seats;
+    }
+
+    // Rounds started on this engine so far
+    public long getRound() {
+        return round;
+    }
+
+    public boolean isRoundOver() {
+        return roundOver;
+    }
+
+    public boolean isInsuranceOffered() {
+        return insuranceSeat < seats;
+    }
+
+    // Seat whose insurance decision is pending
+    public int getInsuranceSeat() {
+        return insuranceSeat;
+    }
+
+    public boolean isInsured(int seat) {
+        return insured[seat];
+    }
+
+    public byte getHiddenCard() {
+        return dealerHand.get(0);
+    }
+
+    // The dealer card the players can see
+    public byte getDealerUpCard() {
+        return dealerHand.get(1);
+    }
+
+    public Hand getDealerHand() {
+        return dealerHand;
+    }
+
+    // The first seat's opening hand, which is its only hand unless it split
+    public Hand getPlayerHand() {
+        return playerHands[0][0];
+    }
+
+    public Hand getPlayerHand(int seat, int index) {
+        return playerHands[seat][index];
+    }
+
+    public int getPlayerHandCount(int seat) {
+        return handCounts[seat];
+    }
+
+    // Seat to act; equals getSeats() once the players' turn is over
+    public int getActiveSeat() {
+        return activeSeat;
+    }
+
+    // Hand the active seat is playing
+    public int getActiveHand() {
+        return activeHand;
+    }
+
+    public Hand getActivePlayerHand() {
+        return playerHands[Math.min(activeSeat, seats - 1)][activeHand];
+    }
+
+    public int getDealerSum() {
+        return dealerHand.getSum();
+    }
+
+    public int getPlayerSum() {
+        return playerHands[0][0].getSum();
+    }
+}
@@ -0,0 +1,122 @@
+package blackjack;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+// Java Flight Recorder events for the round lifecycle and frame painting, so a
+// recording (jcmd <pid> JFR.start, or -XX:StartFlightRecording) lines up slow
+// hands and frames with GC pauses and thread stalls. All of them are disabled
+// until a recording enables them; emitters check shouldCommit() and skip the
+// field work otherwise. Duration is the event's own begin/commit span.
+public final class GameEvents {
+    private GameEvents() {
+    }
+
+    // Card counts as the round stood when the event was committed
+    static int cardsDealt(GameEngine engine) {
+        int cards = engine.getDealerHand().size();
+        for (int seat = 0; seat < engine.getSeats(); seat++) {
+            for (int i = 0; i < engine.getPlayerHandCount(seat); i++) {
+                cards += engine.getPlayerHand(seat, i).size();
+            }
+        }
+        return cards;
+    }
+
+    @Name("blackjack.Round")
+    @Label("Round")
+    @Category("Blackjack")
+    @Description("One round from the deal to settlement, dealer delays included")
+    @StackTrace(false)
+    public static final class Round extends Event {
+        @Label("Table")
+        public long tableId;
+
+        @Label("Round")
+        public long round;
+
+        @Label("Seats")
+        public int seats;
+
+        @Label("Cards Dealt")
+        public int cardsDealt;
+
+        @Label("Player Net")
+        @Description("Bets won by all seats together, negative when the house won")
+        public double net;
+
+        @Label("Outcome")
+        @Description("Seat 0's first hand")
+        public String outcome;
+    }
+
+    @Name("blackjack.Action")
+    @Label("Player Action")
+    @Category("Blackjack")
+    @Description("Deal, hit or stay, from the request to the published snapshot")
+    @StackTrace(false)
+    public static final class Action extends Event {
+        @Label("Table")
+        public long tableId;
+
+        @Label("Round")
+        public long round;
+
+        @Label("Action")
+        public String action;
+
+        @Label("Cards Dealt")
+        public int cardsDealt;
+
+        @Label("Queued")
+        @Description("Time waiting for the table's game executor")
+        @Timespan(Timespan.NANOSECONDS)
+        public long queued;
+    }
+
+    @Name("blackjack.DealerTurn")
+    @Label("Dealer Turn")
+    @Category("Blackjack")
+    @Description("The dealer's draws, from the end of the players' turn to the final total")
+    @StackTrace(false)
+    public static final class DealerTurn extends Event {
+        @Label("Table")
+        public long tableId;
+
+        @Label("Round")
+        public long round;
+
+        @Label("Dealer Cards")
+        public int dealerCards;
+
+        @Label("Dealer Total")
+        public int dealerTotal;
+    }
+
+    @Name("blackjack.Frame")
+    @Label("Frame")
+    @Category({"Blackjack", "Rendering"})
+    @Description("One paintComponent call of the table")
+    @StackTrace(false)
+    public static final class Frame extends Event {
+        @Label("Snapshot Version")
+        public long version;
+
+        @Label("Cards On Table")
+        public int cards;
+
+        @Label("Cards Moving")
+        public boolean animating;
+
+        @Label("Clip Width")
+        public int clipWidth;
+
+        @Label("Clip Height")
+        public int clipHeight;
+    }
+}
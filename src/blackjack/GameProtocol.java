@@ -0,0 +1,70 @@
+package blackjack;
+
+import java.nio.charset.StandardCharsets;
+
+// Line protocol spoken by GameServer, one ASCII command or event per line.
+//
+// Client to server: DEAL, HIT, STAY, STATE, QUIT (DEAL is refused with ERR until
+//                   the current round is settled)
+// Server to client: STATE <version> <phase> <dealer> <player> <dealerTotal> <playerTotal> <soft> <outcome>
+//                   ERR <message>
+//
+// phase is PLAYER, DEALER or DONE; hands are comma-separated card names with the
+// dealer's hidden card sent as XX (and its total as -) until the player stays,
+// and - for a hand before the first deal;
+// soft is 1 or 0; outcome is an Outcome name (WIN, LOSE, TIE, BLACKJACK, ...) or -
+// while the round is running.
+public final class GameProtocol {
+    public static final String DEAL = "DEAL";
+    public static final String HIT = "HIT";
+    public static final String STAY = "STAY";
+    public static final String STATE = "STATE";
+    public static final String QUIT = "QUIT";
+    public static final String ERROR = "ERR";
+
+    public static final String PHASE_PLAYER = "PLAYER";
+    public static final String PHASE_DEALER = "DEALER";
+    public static final String PHASE_DONE = "DONE";
+
+    public static final String HIDDEN_CARD = "XX";
+    public static final int MAX_LINE = 128;
+
+    private GameProtocol() {
+    }
+
+    public static byte[] encode(GameSnapshot snapshot) {
+        StringBuilder line = new StringBuilder(96).append(STATE).append(' ').append(snapshot.getVersion()).append(' ');
+        boolean revealed = snapshot.isPlayerTurnOver();
+        line.append(snapshot.isRoundOver() ? PHASE_DONE : revealed ? PHASE_DEALER : PHASE_PLAYER).append(' ');
+
+        if (snapshot.getDealerCardCount() == 0) {
+            line.append('-'); // Nothing dealt yet
+        }
+        for (int i = 0; i < snapshot.getDealerCardCount(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(i == 0 && !revealed ? HIDDEN_CARD : Cards.name(snapshot.getDealerCard(i)));
+        }
+        line.append(' ');
+        if (snapshot.getPlayerCardCount() == 0) {
+            line.append('-');
+        }
+        for (int i = 0; i < snapshot.getPlayerCardCount(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(Cards.name(snapshot.getPlayerCard(i)));
+        }
+
+        line.append(' ').append(revealed ? String.valueOf(snapshot.getDealerSum()) : "-");
+        line.append(' ').append(snapshot.getPlayerSum());
+        line.append(' ').append(snapshot.isPlayerSoft() ? '1' : '0');
+        line.append(' ').append(snapshot.getOutcome() == null ? "-" : snapshot.getOutcome().name());
+        return line.append('\n').toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public static byte[] error(String message) {
+        return (ERROR + " " + message + "\n").getBytes(StandardCharsets.US_ASCII);
+    }
+}
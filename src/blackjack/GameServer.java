@@ -0,0 +1,220 @@
+package blackjack;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Non-blocking front end for the table manager: one selector thread accepts
+// connections and reads commands, every connection gets its own table, and
+// snapshots pushed by the tables are queued back to the selector for writing.
+// See GameProtocol for the wire format.
+// Set -Dblackjack.history=<directory> to record every table to a hand-history log.
+// Usage: java GameServer [port] [dealerDelayMillis]
+public final class GameServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 7777;
+
+    private final TableManager tables;
+    private final Selector selector;
+    private final ServerSocketChannel server;
+    // Connections with output queued by a table, waiting for the selector to pick them up
+    private final ConcurrentLinkedQueue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    public GameServer(InetSocketAddress address, TableManager tables) throws IOException {
+        this.tables = tables;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(address);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    public void run() throws IOException {
+        while (running) {
+            selector.select();
+            Connection pending;
+            while ((pending = pendingWrites.poll()) != null) {
+                pending.enableWrites();
+            }
+
+            Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+            while (keys.hasNext()) {
+                SelectionKey key = keys.next();
+                keys.remove();
+                try {
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection connection = (Connection) key.attachment();
+                        if (key.isReadable()) {
+                            connection.read();
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                    }
+                } catch (IOException | CancelledKeyException e) {
+                    // Cancelled: close() raced with this key from another thread
+                    if (key.attachment() instanceof Connection) {
+                        ((Connection) key.attachment()).close();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        server.close();
+        selector.close();
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key, tables.openTable()));
+    }
+
+    private final class Connection {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final TableSession table;
+        private final ByteBuffer input = ByteBuffer.allocate(GameProtocol.MAX_LINE);
+        private final ConcurrentLinkedQueue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+        private final ArrayDeque<String> commands = new ArrayDeque<>();
+
+        Connection(SocketChannel channel, SelectionKey key, TableSession table) {
+            this.channel = channel;
+            this.key = key;
+            this.table = table;
+            table.setListener(snapshot -> send(GameProtocol.encode(snapshot)));
+        }
+
+        // Any thread: queue a line and let the selector know
+        void send(byte[] line) {
+            outbound.add(ByteBuffer.wrap(line));
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        void enableWrites() {
+            if (key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+        }
+
+        void read() throws IOException {
+            if (channel.read(input) < 0) {
+                close();
+                return;
+            }
+            input.flip();
+            int lineStart = input.position();
+            for (int i = input.position(); i < input.limit(); i++) {
+                if (input.get(i) == '\n') {
+                    commands.add(new String(input.array(), lineStart, i - lineStart, StandardCharsets.US_ASCII).trim());
+                    lineStart = i + 1;
+                }
+            }
+            input.position(lineStart);
+            input.compact();
+            if (!input.hasRemaining()) {
+                send(GameProtocol.error("line too long"));
+                input.clear();
+            }
+
+            String command;
+            while ((command = commands.poll()) != null) {
+                handle(command);
+            }
+        }
+
+        private void handle(String command) throws IOException {
+            switch (command.toUpperCase(Locale.ROOT)) {
+                case GameProtocol.DEAL: deal(); break;
+                case GameProtocol.HIT: table.hit(); break;
+                case GameProtocol.STAY: table.stay(); break;
+                case GameProtocol.STATE: send(GameProtocol.encode(table.getSnapshot())); break;
+                case GameProtocol.QUIT: close(); break;
+                case "": break;
+                default: send(GameProtocol.error("unknown command " + command)); break;
+            }
+        }
+
+        private void deal() {
+            table.deal().thenAccept(dealt -> {
+                if (!dealt) {
+                    send(GameProtocol.error("round in progress"));
+                }
+            });
+        }
+
+        void write() throws IOException {
+            ByteBuffer buffer;
+            while ((buffer = outbound.peek()) != null) {
+                channel.write(buffer);
+                if (buffer.hasRemaining()) {
+                    return; // Socket is full, wait for the next OP_WRITE
+                }
+                outbound.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            if (!outbound.isEmpty()) {
+                enableWrites(); // Raced with a table queueing more output
+            }
+        }
+
+        void close() {
+            commands.clear();
+            tables.closeTable(table.getId());
+            table.setListener(null);
+            key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Error closing connection: " + e.getMessage());
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long dealerDelay = args.length > 1 ? Long.parseLong(args[1]) : 1000L;
+        String history = System.getProperty("blackjack.history");
+        Metrics.install();
+
+        try (HandHistoryLog log = history == null ? null : new HandHistoryLog(Path.of(history));
+             TableManager manager = new TableManager(Shoe.DEFAULT_DECKS, Shoe.DEFAULT_PENETRATION,
+                RandomSource.DEFAULT_ALGORITHM, RandomSource.newSeed(), dealerDelay);
+             GameServer server = new GameServer(new InetSocketAddress("localhost", port), manager)) {
+            manager.setHistory(log);
+            System.out.println("Listening on localhost:" + server.getPort());
+            server.run();
+        }
+    }
+}
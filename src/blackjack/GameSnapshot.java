@@ -0,0 +1,149 @@
+package blackjack;
+
+import java.util.Arrays;
+
+// Immutable copy of a table at one point in a round. The game thread publishes a
+// new snapshot after every change and readers (the renderer, score labels) only
+// ever look at snapshots, never at the live engine.
+//
+// Every seat's opening hand is captured; the player getters describe seat 0,
+// which is the only seat at a single-player table. Tables driven through
+// snapshots only hit and stay, so a seat never has split hands to show.
+public final class GameSnapshot {
+    public static final GameSnapshot EMPTY = new GameSnapshot(0, new byte[0], new byte[][] {new byte[0]}, 0,
+            new int[1], new boolean[1], 0, false, false, new Outcome[1]);
+
+    private final long version;
+    private final byte[] dealerCards; // Index 0 is the hidden card
+    private final byte[][] seatCards;
+    private final int dealerSum;
+    private final int[] seatSums;
+    private final boolean[] seatSoft;
+    private final int activeSeat;
+    private final boolean playerTurnOver;
+    private final boolean roundOver;
+    private final Outcome[] outcomes;
+
+    GameSnapshot(long version, byte[] dealerCards, byte[][] seatCards, int dealerSum, int[] seatSums,
+                 boolean[] seatSoft, int activeSeat, boolean playerTurnOver, boolean roundOver, Outcome[] outcomes) {
+        this.version = version;
+        this.dealerCards = dealerCards;
+        this.seatCards = seatCards;
+        this.dealerSum = dealerSum;
+        this.seatSums = seatSums;
+        this.seatSoft = seatSoft;
+        this.activeSeat = activeSeat;
+        this.playerTurnOver = playerTurnOver;
+        this.roundOver = roundOver;
+        this.outcomes = outcomes;
+    }
+
+    public static GameSnapshot of(long version, GameEngine engine, boolean dealerDone) {
+        boolean turnOver = engine.isRoundOver();
+        boolean roundOver = turnOver && dealerDone;
+        int seats = engine.getSeats();
+        byte[][] seatCards = new byte[seats][];
+        int[] seatSums = new int[seats];
+        boolean[] seatSoft = new boolean[seats];
+        Outcome[] outcomes = new Outcome[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            Hand hand = engine.getPlayerHand(seat, 0);
+            seatCards[seat] = copy(hand);
+            seatSums[seat] = hand.getSum();
+            seatSoft[seat] = hand.isSoft();
+            outcomes[seat] = roundOver ? engine.getOutcome(seat, 0) : null;
+        }
+        return new GameSnapshot(version, copy(engine.getDealerHand()), seatCards, engine.getDealerSum(), seatSums,
+                seatSoft, engine.getActiveSeat(), turnOver, roundOver, outcomes);
+    }
+
+    private static byte[] copy(Hand hand) {
+        byte[] cards = new byte[hand.size()];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = hand.get(i);
+        }
+        return cards;
+    }
+
+    // Increases with every published change, so readers can spot what is new
+    public long getVersion() {
+        return version;
+    }
+
+    public int getDealerCardCount() {
+        return dealerCards.length;
+    }
+
+    public byte getDealerCard(int index) {
+        return dealerCards[index];
+    }
+
+    public int getPlayerCardCount() {
+        return seatCards[0].length;
+    }
+
+    public byte getPlayerCard(int index) {
+        return seatCards[0][index];
+    }
+
+    public int getSeatCount() {
+        return seatCards.length;
+    }
+
+    public int getSeatCardCount(int seat) {
+        return seatCards[seat].length;
+    }
+
+    public byte getSeatCard(int seat, int index) {
+        return seatCards[seat][index];
+    }
+
+    public int getSeatSum(int seat) {
+        return seatSums[seat];
+    }
+
+    public boolean isSeatSoft(int seat) {
+        return seatSoft[seat];
+    }
+
+    public Outcome getSeatOutcome(int seat) {
+        return outcomes[seat];
+    }
+
+    // Seat to act; getSeatCount() once the players' turn is over
+    public int getActiveSeat() {
+        return activeSeat;
+    }
+
+    public int getDealerSum() {
+        return dealerSum;
+    }
+
+    public int getPlayerSum() {
+        return seatSums[0];
+    }
+
+    public boolean isPlayerSoft() {
+        return seatSoft[0];
+    }
+
+    // Every seat has stayed, so the hidden card is face up
+    public boolean isPlayerTurnOver() {
+        return playerTurnOver;
+    }
+
+    // The dealer has finished drawing and the outcome is final
+    public boolean isRoundOver() {
+        return roundOver;
+    }
+
+    public Outcome getOutcome() {
+        return outcomes[0];
+    }
+
+    @Override
+    public String toString() {
+        return "GameSnapshot[v" + version + " dealer=" + Arrays.toString(dealerCards)
+                + " seats=" + Arrays.deepToString(seatCards) + " outcomes=" + Arrays.toString(outcomes) + "]";
+    }
+}
@@ -0,0 +1,105 @@
+package blackjack;
+
+// A hand of encoded cards with its running total kept up to date on every add,
+// so reading the total never rescans the cards. Reused across rounds via clear().
+// A player hand also carries its bet multiplier and how it came about, which
+// the engine's settlement and split/double rules read.
+public final class Hand {
+    // A hand of 22 cards is already bust on hard values alone
+    public static final int MAX_CARDS = 22;
+
+    private final byte[] cards = new byte[MAX_CARDS];
+    private int size;
+    private int sum;
+    private int aceCount; // Aces still counted as 11
+    private int bet = 1; // Base bets riding on the hand: 2 once doubled
+    private boolean split; // Made by splitting a pair
+    private boolean surrendered;
+
+    public void clear() {
+        size = 0;
+        sum = 0;
+        aceCount = 0;
+        bet = 1;
+        split = false;
+        surrendered = false;
+    }
+
+    // Takes the second card off for a split; the one card left is re-added
+    // so the total and soft state come out right
+    public byte removeLast() {
+        byte last = cards[--size];
+        int keep = size;
+        size = 0;
+        sum = 0;
+        aceCount = 0;
+        for (int i = 0; i < keep; i++) {
+            add(cards[i]);
+        }
+        return last;
+    }
+
+    public void add(byte card) {
+        cards[size++] = card;
+        sum += Cards.value(card);
+        aceCount += Cards.isAce(card) ? 1 : 0;
+        while (sum > GameEngine.BLACKJACK && aceCount > 0) {
+            sum -= 10;
+            aceCount -= 1;
+        }
+    }
+
+    public byte get(int index) {
+        return cards[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getSum() {
+        return sum;
+    }
+
+    public boolean isSoft() {
+        return aceCount > 0;
+    }
+
+    public boolean isBust() {
+        return sum > GameEngine.BLACKJACK;
+    }
+
+    // Two-card 21; after a split it only counts as 21
+    public boolean isBlackjack() {
+        return size == 2 && sum == GameEngine.BLACKJACK && !split;
+    }
+
+    // Two cards of the same value (any two ten-valued cards pair up)
+    public boolean isPair() {
+        return size == 2 && Cards.value(cards[0]) == Cards.value(cards[1]);
+    }
+
+    public int getBet() {
+        return bet;
+    }
+
+    void setBet(int bet) {
+        this.bet = bet;
+    }
+
+    public boolean isSplit() {
+        return split;
+    }
+
+    void setSplit(boolean split) {
+        this.split = split;
+    }
+
+    public boolean isSurrendered() {
+        return surrendered;
+    }
+
+    void setSurrendered(boolean surrendered) {
+        this.surrendered = surrendered;
+    }
+}
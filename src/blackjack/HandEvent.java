@@ -0,0 +1,67 @@
+package blackjack;
+
+// Layout of one hand-history event: 16 bytes, fixed width, little-endian.
+//
+//   0  byte  type     one of the constants below; 0 marks unused log space
+//   1  byte  card     encoded card, or -1 (rule flags for SESSION, see Rules)
+//   2  byte  total    hand total after the event (outcome ordinal for OUTCOME,
+//                     1 if taken for INSURANCE, decks for SESSION, the shuffle
+//                     algorithm's RandomSource.id for SHOE)
+//   3  byte  hand     DEALER, or PLAYER plus seat * Rules.MAX_HANDS plus the split hand
+//                     index (seats for SESSION)
+//   4  int   table    table the event happened at
+//   8  long  data     round number (shoe seed for SESSION, shuffle count for SHUFFLE,
+//                     cards dealt before the reshuffle, i.e. the cut card, for SHOE)
+//
+// Every SESSION is followed by the SHOE of the same table.
+public final class HandEvent {
+    public static final int SIZE = 16;
+
+    public static final byte SESSION = 1;
+    public static final byte SHUFFLE = 2;
+    public static final byte DEAL = 3;
+    public static final byte HIT = 4;
+    public static final byte STAY = 5;
+    public static final byte DEALER_DRAW = 6;
+    public static final byte OUTCOME = 7;
+    public static final byte DOUBLE = 8;
+    public static final byte SPLIT = 9;
+    public static final byte SURRENDER = 10;
+    public static final byte INSURANCE = 11;
+    public static final byte SHOE = 12;
+
+    private static final String[] NAMES = {"EMPTY", "SESSION", "SHUFFLE", "DEAL", "HIT", "STAY", "DEALER_DRAW", "OUTCOME",
+            "DOUBLE", "SPLIT", "SURRENDER", "INSURANCE", "SHOE"};
+    public static final int TYPES = NAMES.length; // Type codes 0..TYPES - 1, EMPTY included
+
+    public static final byte DEALER = 0;
+    public static final byte PLAYER = 1;
+    public static final byte NO_CARD = -1;
+
+    static final int TYPE_OFFSET = 0;
+    static final int CARD_OFFSET = 1;
+    static final int TOTAL_OFFSET = 2;
+    static final int HAND_OFFSET = 3;
+    static final int TABLE_OFFSET = 4;
+    static final int DATA_OFFSET = 8;
+
+    private HandEvent() {
+    }
+
+    // Hand byte for a seat's hand at `index` (0 unless the seat split)
+    public static byte player(int seat, int index) {
+        return (byte) (PLAYER + seat * Rules.MAX_HANDS + index);
+    }
+
+    public static int seat(byte hand) {
+        return (hand - PLAYER) / Rules.MAX_HANDS;
+    }
+
+    public static int handIndex(byte hand) {
+        return (hand - PLAYER) % Rules.MAX_HANDS;
+    }
+
+    public static String name(int type) {
+        return type >= 0 && type < NAMES.length ? NAMES[type] : "UNKNOWN(" + type + ")";
+    }
+}
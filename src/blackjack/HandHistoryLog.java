@@ -0,0 +1,93 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Append-only hand history in a directory of fixed-size memory-mapped segments
+// (hands-000000.log, hands-000001.log, ...). Writers hand over whole batches of
+// HandEvent records, so the lock is taken once per batch rather than per event.
+// Unused space at the end of a segment stays zeroed, which readers treat as the end.
+public final class HandHistoryLog implements AutoCloseable {
+    public static final long DEFAULT_SEGMENT_SIZE = 64L << 20; // 4M events
+    private static final String PREFIX = "hands-";
+    private static final String SUFFIX = ".log";
+
+    private final Path directory;
+    private final long segmentSize;
+    private int segmentIndex;
+    private MappedByteBuffer segment;
+
+    public HandHistoryLog(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public HandHistoryLog(Path directory, long segmentSize) throws IOException {
+        if (segmentSize < HandEvent.SIZE || segmentSize % HandEvent.SIZE != 0 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be a positive multiple of "
+                    + HandEvent.SIZE + " below 2 GiB: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        // Never append into an existing segment; start after the last one
+        this.segmentIndex = segmentCount(directory);
+        this.segment = map(segmentIndex);
+    }
+
+    // Copies the events between the batch's position and limit into the log
+    public synchronized void append(ByteBuffer batch) throws IOException {
+        if (segment == null) {
+            throw new IOException("Hand history log is closed");
+        }
+        while (batch.hasRemaining()) {
+            if (!segment.hasRemaining()) {
+                segment.force();
+                segment = map(++segmentIndex);
+            }
+            int length = Math.min(batch.remaining(), segment.remaining());
+            int limit = batch.limit();
+            batch.limit(batch.position() + length);
+            segment.put(batch);
+            batch.limit(limit);
+        }
+    }
+
+    public synchronized void force() {
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        force();
+        segment = null;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private MappedByteBuffer map(int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(directory, index),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    static Path segmentPath(Path directory, int index) {
+        return directory.resolve(String.format("%s%06d%s", PREFIX, index, SUFFIX));
+    }
+
+    static int segmentCount(Path directory) {
+        int count = 0;
+        while (Files.exists(segmentPath(directory, count))) {
+            count++;
+        }
+        return count;
+    }
+}
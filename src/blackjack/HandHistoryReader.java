@@ -0,0 +1,117 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Walks a hand-history log in place: each segment is mapped read-only and the
+// cursor reads fields straight out of the mapping, so nothing is copied or
+// allocated per event.
+// Usage: java blackjack.HandHistoryReader <directory> [print]
+public final class HandHistoryReader {
+    private final Path directory;
+
+    public HandHistoryReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public interface Visitor {
+        void visit(Cursor event);
+    }
+
+    // View of the current event; only valid inside Visitor.visit
+    public static final class Cursor {
+        private MappedByteBuffer segment;
+        private int offset;
+
+        public byte type() {
+            return segment.get(offset + HandEvent.TYPE_OFFSET);
+        }
+
+        public byte card() {
+            return segment.get(offset + HandEvent.CARD_OFFSET);
+        }
+
+        public int total() {
+            return segment.get(offset + HandEvent.TOTAL_OFFSET) & 0xFF;
+        }
+
+        public byte hand() {
+            return segment.get(offset + HandEvent.HAND_OFFSET);
+        }
+
+        public int table() {
+            return segment.getInt(offset + HandEvent.TABLE_OFFSET);
+        }
+
+        public long data() {
+            return segment.getLong(offset + HandEvent.DATA_OFFSET);
+        }
+
+        @Override
+        public String toString() {
+            String card = card() == HandEvent.NO_CARD ? "-" : Cards.name(card());
+            return String.format("%-11s table=%d hand=%d card=%s total=%d data=%d",
+                    HandEvent.name(type()), table(), hand(), card, total(), data());
+        }
+    }
+
+    // Visits every event in write order and returns how many there were
+    public long forEach(Visitor visitor) throws IOException {
+        Cursor cursor = new Cursor();
+        long events = 0;
+        int segments = HandHistoryLog.segmentCount(directory);
+        for (int i = 0; i < segments; i++) {
+            try (FileChannel channel = FileChannel.open(HandHistoryLog.segmentPath(directory, i), StandardOpenOption.READ)) {
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                segment.order(ByteOrder.LITTLE_ENDIAN);
+                cursor.segment = segment;
+                for (int offset = 0; offset + HandEvent.SIZE <= segment.capacity(); offset += HandEvent.SIZE) {
+                    cursor.offset = offset;
+                    if (cursor.type() == 0) {
+                        break; // Rest of the segment was never written
+                    }
+                    visitor.visit(cursor);
+                    events++;
+                }
+            }
+        }
+        return events;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java blackjack.HandHistoryReader <directory> [print]");
+            System.exit(1);
+        }
+        boolean print = args.length > 1 && args[1].equals("print");
+        long[] counts = new long[HandEvent.TYPES];
+        long[] outcomes = new long[Outcome.values().length];
+
+        long start = System.nanoTime();
+        long events = new HandHistoryReader(Path.of(args[0])).forEach(event -> {
+            int type = event.type();
+            if (type >= 0 && type < counts.length) {
+                counts[type]++;
+            }
+            if (type == HandEvent.OUTCOME) {
+                outcomes[event.total()]++;
+            }
+            if (print) {
+                System.out.println(event);
+            }
+        });
+        long elapsed = System.nanoTime() - start;
+
+        for (int type = 1; type < counts.length; type++) {
+            System.out.printf("%-11s %d%n", HandEvent.name(type), counts[type]);
+        }
+        for (Outcome outcome : Outcome.values()) {
+            System.out.printf("%-11s %d%n", outcome, outcomes[outcome.ordinal()]);
+        }
+        System.out.printf("Read %d events at %.0f events/s%n", events, events / (elapsed / 1e9));
+    }
+}
@@ -0,0 +1,61 @@
+package blackjack;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Collects HandEvent records for one writer (a table or a simulation worker) in a
+// reusable buffer and appends them to the shared log a batch at a time. Not
+// thread-safe: give every writing thread its own recorder.
+public final class HandHistoryRecorder implements AutoCloseable {
+    public static final int DEFAULT_BATCH_EVENTS = 4096;
+    public static final int MAX_SESSION_DECKS = 0xFF; // Unsigned total byte
+
+    private final HandHistoryLog log;
+    private final ByteBuffer batch;
+
+    public HandHistoryRecorder(HandHistoryLog log) {
+        this(log, DEFAULT_BATCH_EVENTS);
+    }
+
+    public HandHistoryRecorder(HandHistoryLog log, int batchEvents) {
+        this.log = log;
+        this.batch = ByteBuffer.allocateDirect(batchEvents * HandEvent.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void record(byte type, byte card, int total, byte hand, int table, long data) {
+        if (!batch.hasRemaining()) {
+            flush();
+        }
+        batch.put(type).put(card).put((byte) total).put(hand).putInt(table).putLong(data);
+    }
+
+    // Shoe seed and generator, decks and exact cut card, rules and seat count, so
+    // the session can be replayed; a fresh shoe, before anything is dealt from it
+    public void session(int table, long seed, String algorithm, Shoe shoe, Rules rules, int seats) {
+        int decks = shoe.getDecks();
+        if (decks > MAX_SESSION_DECKS) {
+            throw new IllegalArgumentException("At most " + MAX_SESSION_DECKS + " decks can be recorded: " + decks);
+        }
+        int algorithmId = RandomSource.id(algorithm);
+        record(HandEvent.SESSION, rules.toFlags(), decks, (byte) seats, table, seed);
+        record(HandEvent.SHOE, HandEvent.NO_CARD, algorithmId, HandEvent.DEALER, table, shoe.getCutCard());
+    }
+
+    public void flush() {
+        batch.flip();
+        try {
+            log.append(batch);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -0,0 +1,89 @@
+package blackjack;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// House-wide wagering ledger: one TableLedger per open table, created on first
+// use and dropped by closeTable(). Every table also settles into one running
+// house TableLedger, so closed tables stay in the books without being kept.
+// All counters are LongAdders: settling never takes a lock and reading never
+// blocks a table.
+public final class Ledger {
+    public static final long DEFAULT_BET = 10; // Chips per base bet
+    private static final long HOUSE_ID = -1;
+
+    private final ConcurrentHashMap<Long, TableLedger> tables = new ConcurrentHashMap<>();
+    private final TableLedger house = new TableLedger(HOUSE_ID, null);
+    private final LongAdder opened = new LongAdder();
+
+    public TableLedger forTable(long tableId) {
+        return tables.computeIfAbsent(tableId, id -> {
+            opened.increment();
+            return new TableLedger(id, house);
+        });
+    }
+
+    // Null once the table has closed
+    public TableLedger getTable(long tableId) {
+        return tables.get(tableId);
+    }
+
+    // Rounds the table still settles afterwards count towards the house only
+    public void closeTable(long tableId) {
+        tables.remove(tableId);
+    }
+
+    // Every table ever opened; rounds settling meanwhile may or may not be included
+    public Totals totals() {
+        return new Totals((int) opened.sum(), house.getRounds(), house.getHands(), house.getWagered(),
+                house.getHouseNet());
+    }
+
+    // House totals at one point in time
+    public static final class Totals {
+        private final int tables;
+        private final long rounds;
+        private final long hands;
+        private final long wagered;
+        private final long houseNet;
+
+        Totals(int tables, long rounds, long hands, long wagered, long houseNet) {
+            this.tables = tables;
+            this.rounds = rounds;
+            this.hands = hands;
+            this.wagered = wagered;
+            this.houseNet = houseNet;
+        }
+
+        public int getTables() {
+            return tables;
+        }
+
+        public long getRounds() {
+            return rounds;
+        }
+
+        public long getHands() {
+            return hands;
+        }
+
+        public long getWagered() {
+            return wagered;
+        }
+
+        public long getHouseNet() {
+            return houseNet;
+        }
+
+        // House result as a share of the chips wagered
+        public double getHold() {
+            return wagered == 0 ? 0 : (double) houseNet / wagered;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Tables: %d  Rounds: %d  Hands: %d  Wagered: %d  House: %+d  Hold: %.3f%%",
+                    tables, rounds, hands, wagered, houseNet, 100 * getHold());
+        }
+    }
+}
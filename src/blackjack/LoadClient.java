@@ -0,0 +1,92 @@
+package blackjack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Synthetic client for GameServer: opens many connections and plays basic
+// strategy on each as fast as the server answers, then reports throughput.
+// Usage: java LoadClient [host] [port] [connections] [roundsPerConnection]
+public final class LoadClient {
+    public static void main(String[] args) throws InterruptedException {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : GameServer.DEFAULT_PORT;
+        int connections = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 100;
+
+        BasicStrategy strategy = BasicStrategy.defaultStrategy();
+        CountDownLatch finished = new CountDownLatch(connections);
+        AtomicLong played = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+
+        long start = System.nanoTime();
+        for (int c = 0; c < connections; c++) {
+            Thread client = new Thread(() -> {
+                try {
+                    played.addAndGet(play(host, port, rounds, strategy));
+                } catch (IOException e) {
+                    failures.incrementAndGet();
+                    System.err.println("Client failed: " + e.getMessage());
+                } finally {
+                    finished.countDown();
+                }
+            }, "load-client-" + c);
+            client.setDaemon(true);
+            client.start();
+        }
+        finished.await();
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Connections: %d  Rounds: %d  Failures: %d%n", connections, played.get(), failures.get());
+        System.out.printf("Throughput: %.0f rounds/s%n", played.get() / (elapsed / 1e9));
+    }
+
+    private static long play(String host, int port, int rounds, BasicStrategy strategy) throws IOException {
+        try (Socket socket = new Socket(host, port)) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+
+            long played = 0;
+            send(out, GameProtocol.DEAL);
+            String line;
+            while (played < rounds && (line = in.readLine()) != null) {
+                String[] fields = line.split(" ");
+                if (fields[0].equals(GameProtocol.ERROR)) {
+                    throw new IOException("Server error: " + line);
+                }
+                // STATE version phase dealer player dealerTotal playerTotal soft outcome
+                String phase = fields[2];
+                if (phase.equals(GameProtocol.PHASE_DONE)) {
+                    played++;
+                    if (played < rounds) {
+                        send(out, GameProtocol.DEAL);
+                    }
+                } else if (phase.equals(GameProtocol.PHASE_PLAYER)) {
+                    String upCard = fields[3].split(",")[1];
+                    int upValue = upCard.startsWith("A") ? 11 : Math.min(10, rankValue(upCard));
+                    Action action = strategy.decide(Integer.parseInt(fields[6]), fields[7].equals("1"), upValue);
+                    send(out, action == Action.HIT ? GameProtocol.HIT : GameProtocol.STAY);
+                }
+            }
+            send(out, GameProtocol.QUIT);
+            return played;
+        }
+    }
+
+    // "10-H" -> 10, "K-S" -> 10, "7-C" -> 7
+    private static int rankValue(String card) {
+        String rank = card.substring(0, card.indexOf('-'));
+        return Character.isDigit(rank.charAt(0)) ? Integer.parseInt(rank) : 10;
+    }
+
+    private static void send(OutputStream out, String command) throws IOException {
+        out.write((command + "\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}
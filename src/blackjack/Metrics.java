@@ -0,0 +1,153 @@
+package blackjack;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.*;
+
+// Named counters and latency histograms for the game and render loops. The hot
+// paths look their metrics up once into static fields and then only add to
+// LongAdders and LatencyHistograms, so the instrumentation stays on all the time.
+// GLOBAL is exported as the JMX MBean "blackjack:type=Metrics" and, with
+// -Dblackjack.metrics.dump=<seconds>, printed to stdout at that period.
+public final class Metrics {
+    public static final Metrics GLOBAL = new Metrics();
+    public static final String OBJECT_NAME = "blackjack:type=Metrics";
+
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    // One line per metric, sorted by name
+    public String format() {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<String, LongAdder> counter : new TreeMap<>(counters).entrySet()) {
+            text.append(String.format("%-24s %d%n", counter.getKey(), counter.getValue().sum()));
+        }
+        for (Map.Entry<String, LatencyHistogram> histogram : new TreeMap<>(histograms).entrySet()) {
+            text.append(String.format("%-24s %s%n", histogram.getKey(), histogram.getValue().format()));
+        }
+        return text.toString();
+    }
+
+    // Registers GLOBAL with the platform MBean server and starts the periodic dump
+    // if -Dblackjack.metrics.dump is set; safe to call more than once
+    public static synchronized void install() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new MetricsMBean(GLOBAL), name);
+                long period = Long.getLong("blackjack.metrics.dump", 0L);
+                if (period > 0) {
+                    GLOBAL.startDump(period, TimeUnit.SECONDS, System.out);
+                }
+            }
+        } catch (JMException e) {
+            System.err.println("Metrics MBean not registered: " + e.getMessage());
+        }
+    }
+
+    // Prints format() every period on a daemon thread
+    public ScheduledExecutorService startDump(long period, TimeUnit unit, PrintStream out) {
+        ScheduledExecutorService dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> out.print(format()), period, period, unit);
+        return dumper;
+    }
+
+    // Exposes every metric as read-only attributes: a counter as "<name>", a
+    // histogram as "<name>.count", "<name>.meanMicros", "<name>.p50Micros",
+    // "<name>.p99Micros" and "<name>.maxMicros". Metrics added later show up
+    // the next time a client fetches the MBeanInfo.
+    static final class MetricsMBean implements DynamicMBean {
+        private static final String[] HISTOGRAM_FIELDS = {"count", "meanMicros", "p50Micros", "p99Micros", "maxMicros"};
+
+        private final Metrics metrics;
+
+        MetricsMBean(Metrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            LongAdder counter = metrics.counters.get(attribute);
+            if (counter != null) {
+                return counter.sum();
+            }
+            int dot = attribute.lastIndexOf('.');
+            LatencyHistogram histogram = dot < 0 ? null : metrics.histograms.get(attribute.substring(0, dot));
+            if (histogram != null) {
+                switch (attribute.substring(dot + 1)) {
+                    case "count": return (double) histogram.getCount();
+                    case "meanMicros": return histogram.getMean() / 1e3;
+                    case "p50Micros": return histogram.getValueAtPercentile(50) / 1e3;
+                    case "p99Micros": return histogram.getValueAtPercentile(99) / 1e3;
+                    case "maxMicros": return histogram.getMax() / 1e3;
+                    default: break;
+                }
+            }
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] attributes) {
+            AttributeList list = new AttributeList();
+            for (String attribute : attributes) {
+                try {
+                    list.add(new Attribute(attribute, getAttribute(attribute)));
+                } catch (AttributeNotFoundException e) {
+                    // Skipped, as the DynamicMBean contract allows
+                }
+            }
+            return list;
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Metrics are read-only: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String action, Object[] params, String[] signature) throws ReflectionException {
+            throw new ReflectionException(new NoSuchMethodException(action));
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            ArrayList<MBeanAttributeInfo> attributes = new ArrayList<>();
+            for (String name : new TreeMap<>(metrics.counters).keySet()) {
+                attributes.add(new MBeanAttributeInfo(name, "long", "Counter", true, false, false));
+            }
+            for (String name : new TreeMap<>(metrics.histograms).keySet()) {
+                for (String field : HISTOGRAM_FIELDS) {
+                    attributes.add(new MBeanAttributeInfo(name + "." + field, "double", "Latency", true, false, false));
+                }
+            }
+            return new MBeanInfo(Metrics.class.getName(), "Game and render loop metrics",
+                    attributes.toArray(new MBeanAttributeInfo[0]), null, null, null);
+        }
+    }
+}
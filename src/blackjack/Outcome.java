@@ -0,0 +1,36 @@
+package blackjack;
+
+// Result of a finished hand from the player's point of view. New results are
+// appended so ordinals recorded in hand histories keep their meaning.
+public enum Outcome {
+    WIN("YOU WIN!"),
+    LOSE("YOU LOSE!"),
+    TIE("TIE!"),
+    BLACKJACK("BLACKJACK!"),
+    SURRENDER("SURRENDERED");
+
+    private final String message;
+
+    Outcome(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isWin() {
+        return this == WIN || this == BLACKJACK;
+    }
+
+    // Net result in base bets for a hand with `bet` base bets riding on it
+    public double payout(int bet, Rules rules) {
+        switch (this) {
+            case WIN: return bet;
+            case BLACKJACK: return bet * rules.getBlackjackPayout();
+            case TIE: return 0;
+            case SURRENDER: return -bet / 2.0;
+            default: return -bet;
+        }
+    }
+}
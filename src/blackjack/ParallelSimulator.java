@@ -0,0 +1,144 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Splits a batch of rounds across a ForkJoinPool. Rounds are cut into fixed-size
+// chunks and every chunk plays on its own engine and shoe with its own generator
+// derived from the master seed, so workers share nothing until their results are
+// merged and a seed reproduces the same totals on any number of threads.
+// Set -Dblackjack.history=<directory> to record every round; each chunk records
+// as its own table with its own batch, tagged with the chunk's seed.
+// Set -Dblackjack.rules to change the table rules (see Rules.parse) and
+// -Dblackjack.seats to play 1..7 seats against each dealer hand.
+// Set -Dblackjack.precision=<bets> to stop once the 95% confidence interval of
+// the EV is that narrow; chunks then run in fixed waves with a check after each,
+// so the stopping point also depends only on the seed.
+// Usage: java ParallelSimulator [rounds] [strategy] [decks] [penetration] [threads] [seed] [algorithm]
+public class ParallelSimulator {
+    private static final long CHUNK_ROUNDS = 100_000L;
+    private static final long WAVE_CHUNKS = 16; // Chunks between early-stop checks
+
+    private final ForkJoinPool pool;
+    private final BasicStrategy strategy;
+    private final int decks;
+    private final double penetration;
+    private final String algorithm;
+    private Rules rules = Rules.DEFAULT;
+    private int seats = 1;
+    private HandHistoryLog history;
+
+    public ParallelSimulator(ForkJoinPool pool, BasicStrategy strategy, int decks, double penetration, String algorithm) {
+        this.pool = pool;
+        this.strategy = strategy;
+        this.decks = decks;
+        this.penetration = penetration;
+        this.algorithm = algorithm;
+    }
+
+    public void setRules(Rules rules) {
+        this.rules = rules;
+    }
+
+    public void setSeats(int seats) {
+        this.seats = seats;
+    }
+
+    public void setHistory(HandHistoryLog history) {
+        this.history = history;
+    }
+
+    public SimulationResult run(long rounds, long seed) {
+        long chunks = (rounds + CHUNK_ROUNDS - 1) / CHUNK_ROUNDS;
+        return pool.invoke(new SimulationTask(0, chunks, rounds, seed));
+    }
+
+    // Plays up to maxRounds, stopping early once result.isPrecise(halfWidth)
+    public SimulationResult run(long maxRounds, long seed, double halfWidth) {
+        long chunks = (maxRounds + CHUNK_ROUNDS - 1) / CHUNK_ROUNDS;
+        SimulationResult result = new SimulationResult();
+        for (long from = 0; from < chunks && !result.isPrecise(halfWidth); from += WAVE_CHUNKS) {
+            result.merge(pool.invoke(new SimulationTask(from, Math.min(from + WAVE_CHUNKS, chunks), maxRounds, seed)));
+        }
+        return result;
+    }
+
+    private class SimulationTask extends RecursiveTask<SimulationResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final long fromChunk;
+        private final long toChunk;
+        private final long totalRounds;
+        private final long seed;
+
+        SimulationTask(long fromChunk, long toChunk, long totalRounds, long seed) {
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.totalRounds = totalRounds;
+            this.seed = seed;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (toChunk - fromChunk == 1) {
+                long rounds = Math.min(CHUNK_ROUNDS, totalRounds - fromChunk * CHUNK_ROUNDS);
+                long chunkSeed = RandomSource.streamSeed(seed, fromChunk);
+                GameEngine engine = new GameEngine(new Shoe(decks, penetration, RandomSource.create(algorithm, chunkSeed)), rules, seats);
+                HandHistoryRecorder recorder = history == null ? null : new HandHistoryRecorder(history);
+                if (recorder != null) {
+                    recorder.session((int) fromChunk, chunkSeed, algorithm, engine.getShoe(), rules, seats);
+                    engine.setRecorder(recorder, (int) fromChunk);
+                }
+                SimulationResult result = new SimulationResult();
+                Simulator.playRounds(engine, rounds, strategy, result);
+                if (recorder != null) {
+                    recorder.close();
+                }
+                return result;
+            }
+            long middle = (fromChunk + toChunk) >>> 1;
+            SimulationTask left = new SimulationTask(fromChunk, middle, totalRounds, seed);
+            SimulationTask right = new SimulationTask(middle, toChunk, totalRounds, seed);
+            left.fork();
+            SimulationResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+        BasicStrategy strategy = Simulator.strategyFor(args.length > 1 ? args[1] : "basic");
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : Shoe.DEFAULT_DECKS;
+        double penetration = args.length > 3 ? Double.parseDouble(args[3]) : Shoe.DEFAULT_PENETRATION;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : RandomSource.newSeed();
+        String algorithm = args.length > 6 ? args[6] : RandomSource.DEFAULT_ALGORITHM;
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ParallelSimulator simulator = new ParallelSimulator(pool, strategy, decks, penetration, algorithm);
+        simulator.setRules(Rules.fromSystemProperty());
+        simulator.setSeats(Integer.getInteger("blackjack.seats", 1));
+        String historyDirectory = System.getProperty("blackjack.history");
+        HandHistoryLog history = historyDirectory == null ? null : new HandHistoryLog(Path.of(historyDirectory));
+        simulator.setHistory(history);
+
+        double precision = Double.parseDouble(System.getProperty("blackjack.precision", "0"));
+        long start = System.nanoTime();
+        SimulationResult result = precision > 0 ? simulator.run(rounds, seed, precision) : simulator.run(rounds, seed);
+        if (history != null) {
+            history.close();
+        }
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        System.out.println(result);
+        if (Boolean.getBoolean("blackjack.histograms")) {
+            System.out.println(result.formatHistograms());
+        }
+        System.out.printf("Threads: %d  Seed: %d  Algorithm: %s  Rules: %s  Seats: %d%n", threads, seed, algorithm,
+                simulator.rules, simulator.seats);
+        System.out.printf("Throughput: %.0f rounds/s%n", result.getRounds() / (elapsed / 1e9));
+    }
+}
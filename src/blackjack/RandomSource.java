@@ -0,0 +1,74 @@
+package blackjack;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+// Creates seeded shuffle generators by algorithm name, e.g. "L64X128MixRandom",
+// "Xoshiro256PlusPlus" or "SplittableRandom". The same name and seed always
+// produce the same shoe order, so any recorded seed can be replayed.
+public final class RandomSource {
+    public static final String DEFAULT_ALGORITHM = "L64X128MixRandom";
+
+    // Algorithms a hand history can name, indexed by the id it records; append only
+    private static final String[] RECORDABLE = {DEFAULT_ALGORITHM, "SplittableRandom", "Xoshiro256PlusPlus",
+            "Xoroshiro128PlusPlus", "L32X64MixRandom", "L64X256MixRandom", "L64X1024MixRandom", "L128X128MixRandom",
+            "L128X256MixRandom", "L128X1024MixRandom"};
+
+    private RandomSource() {
+    }
+
+    public static RandomGenerator create(String algorithm, long seed) {
+        if ("SplittableRandom".equals(algorithm)) {
+            return new SplittableRandom(seed);
+        }
+        try {
+            return RandomGeneratorFactory.of(algorithm).create(seed);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown random algorithm: " + algorithm, e);
+        }
+    }
+
+    // Id recorded for `algorithm` in a hand history
+    public static int id(String algorithm) {
+        for (int id = 0; id < RECORDABLE.length; id++) {
+            if (RECORDABLE[id].equals(algorithm)) {
+                return id;
+            }
+        }
+        throw new IllegalArgumentException("Random algorithm cannot be recorded: " + algorithm);
+    }
+
+    public static String algorithm(int id) {
+        if (id < 0 || id >= RECORDABLE.length) {
+            throw new IllegalArgumentException("Unknown random algorithm id: " + id);
+        }
+        return RECORDABLE[id];
+    }
+
+    public static RandomGenerator create(long seed) {
+        return create(DEFAULT_ALGORITHM, seed);
+    }
+
+    // Independent generator for stream number `index` derived from one master seed,
+    // so parallel workers are reproducible no matter which thread runs them
+    public static RandomGenerator forStream(String algorithm, long seed, long index) {
+        return create(algorithm, streamSeed(seed, index));
+    }
+
+    // The seed forStream() uses, for callers that need to record it
+    public static long streamSeed(long seed, long index) {
+        return mix(seed + (index + 1) * 0x9E3779B97F4A7C15L);
+    }
+
+    public static long newSeed() {
+        return mix(System.nanoTime() ^ Thread.currentThread().getId());
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,247 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+// Re-deals every recorded session from its shoe seed and re-applies the recorded
+// player actions on a fresh engine, checking each card, dealer draw and outcome
+// against the log. A mismatch means the engine (or a rule change) no longer
+// reproduces what was played. Each session's shuffle algorithm comes from the
+// log. Pass a table and round to print that one hand.
+// Usage: java blackjack.ReplayEngine <directory> [table round]
+public final class ReplayEngine {
+    private static final int MAX_REPORTED = 20;
+    private static final int DEALER_CARDS = 2; // Hidden card and up-card, dealt first
+
+    private final int watchTable;
+    private final long watchRound;
+    private final HashMap<Integer, Session> sessions = new HashMap<>(); // Waiting for their SHOE
+    private final HashMap<Integer, TableReplay> tables = new HashMap<>();
+
+    private long rounds;
+    private long mismatchedRounds;
+    private int reported;
+
+    public ReplayEngine() {
+        this(-1, -1);
+    }
+
+    // Narrates the given table and round on stdout while replaying
+    public ReplayEngine(int watchTable, long watchRound) {
+        this.watchTable = watchTable;
+        this.watchRound = watchRound;
+    }
+
+    public long replay(Path directory) throws IOException {
+        return new HandHistoryReader(directory).forEach(this::apply);
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getMismatchedRounds() {
+        return mismatchedRounds;
+    }
+
+    private void apply(HandHistoryReader.Cursor event) {
+        int table = event.table();
+        if (event.type() == HandEvent.SESSION) {
+            // The payout is not recorded; it never changes which cards come out
+            Rules rules = Rules.fromFlags(event.card(), Rules.DEFAULT.getBlackjackPayout());
+            sessions.put(table, new Session(event.total(), event.hand(), rules, event.data()));
+            tables.remove(table);
+            return;
+        }
+        if (event.type() == HandEvent.SHOE) {
+            Session session = sessions.remove(table);
+            if (session != null) {
+                String algorithm = RandomSource.algorithm(event.total());
+                Shoe shoe = Shoe.withCutCard(session.decks, (int) event.data(), RandomSource.create(algorithm, session.seed));
+                tables.put(table, new TableReplay(table, new GameEngine(shoe, session.rules, session.seats)));
+            }
+            return;
+        }
+        TableReplay replay = tables.get(table);
+        if (replay == null) {
+            return; // Log started mid-session; nothing to replay against
+        }
+        try {
+            replay.apply(event);
+        } catch (IllegalStateException e) {
+            // A diverged replay can reach states the recorded action is illegal in
+            replay.check(false, "rejected (" + e.getMessage() + ")", event);
+        }
+    }
+
+    private static final class Session {
+        private final int decks;
+        private final int seats;
+        private final Rules rules;
+        private final long seed;
+
+        Session(int decks, int seats, Rules rules, long seed) {
+            this.decks = decks;
+            this.seats = seats;
+            this.rules = rules;
+            this.seed = seed;
+        }
+    }
+
+    private final class TableReplay {
+        private final int table;
+        private final GameEngine engine;
+        private long expectedShuffles = -1;
+        private int dealt; // Opening cards checked so far this round
+        private boolean mismatched; // Current round already reported
+
+        TableReplay(int table, GameEngine engine) {
+            this.table = table;
+            this.engine = engine;
+        }
+
+        void apply(HandHistoryReader.Cursor event) {
+            byte type = event.type();
+            if (type == HandEvent.SHUFFLE) {
+                expectedShuffles = event.data();
+                return;
+            }
+
+            long round = event.data();
+            if (type == HandEvent.DEAL && engine.getRound() < round) {
+                startRound();
+            }
+            boolean watched = table == watchTable && engine.getRound() == watchRound;
+
+            switch (type) {
+                case HandEvent.DEAL: {
+                    int seats = engine.getSeats();
+                    if (dealt < DEALER_CARDS + 2 * seats) {
+                        // Opening deal: hidden card, up-card, then round the seats twice
+                        boolean dealer = dealt < DEALER_CARDS;
+                        int seat = dealer ? -1 : (dealt - DEALER_CARDS) % seats;
+                        int index = dealer ? dealt : (dealt - DEALER_CARDS) / seats;
+                        Hand hand = dealer ? engine.getDealerHand() : engine.getPlayerHand(seat, 0);
+                        dealt++;
+                        check(event.hand() == (dealer ? HandEvent.DEALER : HandEvent.player(seat, 0))
+                                && hand.get(index) == event.card(), "deal", event);
+                    } else {
+                        // Second card of a split hand, already dealt by the replayed split or stand
+                        int seat = HandEvent.seat(event.hand());
+                        int index = HandEvent.handIndex(event.hand());
+                        check(seat < seats && index < engine.getPlayerHandCount(seat)
+                                && engine.getPlayerHand(seat, index).size() > 1
+                                && engine.getPlayerHand(seat, index).get(1) == event.card(), "split deal", event);
+                    }
+                    break;
+                }
+                case HandEvent.INSURANCE: {
+                    boolean offered = engine.isInsuranceOffered() && engine.getInsuranceSeat() == HandEvent.seat(event.hand());
+                    if (offered) {
+                        engine.insure(event.total() == 1);
+                    }
+                    check(offered, "insurance", event);
+                    break;
+                }
+                case HandEvent.HIT:
+                    check(isActive(event) && engine.canHit() && engine.hit() == event.card(), "hit", event);
+                    break;
+                case HandEvent.DOUBLE:
+                    check(isActive(event) && engine.canDouble() && engine.doubleDown() == event.card(), "double", event);
+                    break;
+                case HandEvent.SPLIT: {
+                    boolean splits = isActive(event) && engine.canSplit();
+                    if (splits) {
+                        engine.split();
+                    }
+                    check(splits && engine.getPlayerHand(HandEvent.seat(event.hand()), HandEvent.handIndex(event.hand()) + 1)
+                            .get(0) == event.card(), "split", event);
+                    break;
+                }
+                case HandEvent.SURRENDER: {
+                    boolean surrenders = isActive(event) && engine.canSurrender();
+                    if (surrenders) {
+                        engine.surrender();
+                    }
+                    check(surrenders, "surrender", event);
+                    break;
+                }
+                case HandEvent.STAY: {
+                    boolean stands = isActive(event);
+                    if (stands) {
+                        engine.stand();
+                    }
+                    check(stands, "stay", event);
+                    break;
+                }
+                case HandEvent.DEALER_DRAW:
+                    check(engine.dealerShouldDraw() && engine.dealerDraw() == event.card(), "dealer draw", event);
+                    break;
+                case HandEvent.OUTCOME: {
+                    int seat = HandEvent.seat(event.hand());
+                    int index = HandEvent.handIndex(event.hand());
+                    check(!engine.dealerShouldDraw() && seat < engine.getSeats() && index < engine.getPlayerHandCount(seat)
+                            && engine.getOutcome(seat, index).ordinal() == event.total(), "outcome", event);
+                    break;
+                }
+                default:
+                    break;
+            }
+            if (watched) {
+                System.out.printf("%-11s %-5s dealer=%-2d player=%-2d%n", HandEvent.name(type),
+                        event.card() == HandEvent.NO_CARD ? "" : Cards.name(event.card()),
+                        engine.getDealerSum(), engine.getPlayerSum());
+            }
+        }
+
+        // The recorded action was taken on the hand the engine is playing now
+        private boolean isActive(HandHistoryReader.Cursor event) {
+            return !engine.isRoundOver() && engine.getActiveSeat() == HandEvent.seat(event.hand())
+                    && engine.getActiveHand() == HandEvent.handIndex(event.hand());
+        }
+
+        private void startRound() {
+            engine.startRound();
+            rounds++;
+            dealt = 0;
+            mismatched = false;
+            if (expectedShuffles >= 0) {
+                check(engine.getShoe().getShuffles() == expectedShuffles, "shuffle", null);
+                expectedShuffles = -1;
+            }
+        }
+
+        private void check(boolean matches, String what, HandHistoryReader.Cursor event) {
+            if (matches || mismatched) {
+                return;
+            }
+            mismatched = true;
+            mismatchedRounds++;
+            if (reported++ < MAX_REPORTED) {
+                System.out.printf("Mismatch at table %d round %d: %s%s%n", table, engine.getRound(), what,
+                        event == null ? "" : " (recorded " + event + ")");
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: java blackjack.ReplayEngine <directory> [table round]");
+            System.exit(1);
+        }
+        int table = args.length > 2 ? Integer.parseInt(args[1]) : -1;
+        long round = args.length > 2 ? Long.parseLong(args[2]) : -1;
+
+        ReplayEngine replay = new ReplayEngine(table, round);
+        long start = System.nanoTime();
+        long events = replay.replay(Path.of(args[0]));
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Replayed %d rounds (%d events), %d mismatched%n", replay.getRounds(), events, replay.getMismatchedRounds());
+        System.out.printf("Throughput: %.0f rounds/s%n", replay.getRounds() / (elapsed / 1e9));
+        if (replay.getMismatchedRounds() > 0) {
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package blackjack;
+
+import java.util.Locale;
+
+// Table rule variants. The dealer always peeks for blackjack under an ace or a
+// ten, so a dealer blackjack only costs the original bet. Immutable; parse()
+// reads a comma-separated spec such as "h17,nodas,rsa,6:5".
+public final class Rules {
+    public static final int MAX_HANDS = 4; // Hands a player can split into (fits the history log)
+
+    public static final Rules DEFAULT = new Rules(false, true, false, false, true, true, MAX_HANDS, 1.5);
+
+    private final boolean dealerHitsSoft17;
+    private final boolean doubleAfterSplit;
+    private final boolean resplitAces;
+    private final boolean hitSplitAces;
+    private final boolean surrender; // Late surrender, first decision only
+    private final boolean insurance;
+    private final int maxHands;
+    private final double blackjackPayout;
+
+    public Rules(boolean dealerHitsSoft17, boolean doubleAfterSplit, boolean resplitAces, boolean hitSplitAces,
+                 boolean surrender, boolean insurance, int maxHands, double blackjackPayout) {
+        if (maxHands < 1 || maxHands > MAX_HANDS) {
+            throw new IllegalArgumentException("Hands must be between 1 and " + MAX_HANDS + ": " + maxHands);
+        }
+        if (blackjackPayout <= 0) {
+            throw new IllegalArgumentException("Blackjack payout must be positive: " + blackjackPayout);
+        }
+        this.dealerHitsSoft17 = dealerHitsSoft17;
+        this.doubleAfterSplit = doubleAfterSplit;
+        this.resplitAces = resplitAces;
+        this.hitSplitAces = hitSplitAces;
+        this.surrender = surrender;
+        this.insurance = insurance;
+        this.maxHands = maxHands;
+        this.blackjackPayout = blackjackPayout;
+    }
+
+    // Starts from DEFAULT; each item is s17/h17, das/nodas, rsa/norsa, hsa/nohsa,
+    // ls/nols (surrender), ins/noins, hands=N or a payout such as 3:2 or 6:5
+    public static Rules parse(String spec) {
+        boolean h17 = DEFAULT.dealerHitsSoft17;
+        boolean das = DEFAULT.doubleAfterSplit;
+        boolean rsa = DEFAULT.resplitAces;
+        boolean hsa = DEFAULT.hitSplitAces;
+        boolean ls = DEFAULT.surrender;
+        boolean ins = DEFAULT.insurance;
+        int hands = DEFAULT.maxHands;
+        double payout = DEFAULT.blackjackPayout;
+        for (String item : spec.toLowerCase(Locale.ROOT).split(",")) {
+            item = item.trim();
+            if (item.isEmpty()) {
+                continue;
+            }
+            switch (item) {
+                case "s17": h17 = false; break;
+                case "h17": h17 = true; break;
+                case "das": das = true; break;
+                case "nodas": das = false; break;
+                case "rsa": rsa = true; break;
+                case "norsa": rsa = false; break;
+                case "hsa": hsa = true; break;
+                case "nohsa": hsa = false; break;
+                case "ls": ls = true; break;
+                case "nols": ls = false; break;
+                case "ins": ins = true; break;
+                case "noins": ins = false; break;
+                default:
+                    try {
+                        if (item.startsWith("hands=")) {
+                            hands = Integer.parseInt(item.substring("hands=".length()));
+                        } else if (item.indexOf(':') > 0) {
+                            String[] ratio = item.split(":");
+                            payout = Double.parseDouble(ratio[0]) / Double.parseDouble(ratio[1]);
+                        } else {
+                            throw new IllegalArgumentException("Unknown rule: " + item);
+                        }
+                    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                        throw new IllegalArgumentException("Malformed rule: " + item, e);
+                    }
+            }
+        }
+        return new Rules(h17, das, rsa, hsa, ls, ins, hands, payout);
+    }
+
+    // -Dblackjack.rules, or DEFAULT when unset
+    public static Rules fromSystemProperty() {
+        String spec = System.getProperty("blackjack.rules");
+        return spec == null ? DEFAULT : parse(spec);
+    }
+
+    // Everything that changes which cards are drawn, packed into one byte for the
+    // hand history: six flags and the hand limit (the payout only moves money)
+    public byte toFlags() {
+        return (byte) ((dealerHitsSoft17 ? 1 : 0) | (doubleAfterSplit ? 2 : 0) | (resplitAces ? 4 : 0)
+                | (hitSplitAces ? 8 : 0) | (surrender ? 16 : 0) | (insurance ? 32 : 0) | (maxHands - 1) << 6);
+    }
+
+    public static Rules fromFlags(byte flags, double blackjackPayout) {
+        return new Rules((flags & 1) != 0, (flags & 2) != 0, (flags & 4) != 0, (flags & 8) != 0,
+                (flags & 16) != 0, (flags & 32) != 0, ((flags >> 6) & 3) + 1, blackjackPayout);
+    }
+
+    public boolean isDealerHitsSoft17() {
+        return dealerHitsSoft17;
+    }
+
+    public boolean isDoubleAfterSplit() {
+        return doubleAfterSplit;
+    }
+
+    public boolean isResplitAces() {
+        return resplitAces;
+    }
+
+    public boolean isHitSplitAces() {
+        return hitSplitAces;
+    }
+
+    public boolean isSurrender() {
+        return surrender;
+    }
+
+    public boolean isInsurance() {
+        return insurance;
+    }
+
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    public double getBlackjackPayout() {
+        return blackjackPayout;
+    }
+
+    @Override
+    public String toString() {
+        return (dealerHitsSoft17 ? "H17" : "S17") + (doubleAfterSplit ? " DAS" : " NoDAS") + (resplitAces ? " RSA" : "")
+                + (hitSplitAces ? " HSA" : "") + (surrender ? " LS" : "") + (insurance ? " Ins" : "")
+                + " hands=" + maxHands + " BJ=" + blackjackPayout;
+    }
+}
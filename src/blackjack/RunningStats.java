@@ -0,0 +1,71 @@
+package blackjack;
+
+// Streaming mean and variance (Welford), mergeable across workers with Chan's
+// pairwise update, so a mean and its confidence interval come out of a single
+// pass without keeping the samples.
+public final class RunningStats {
+    public static final double Z_95 = 1.959964; // Two-sided 95% normal quantile
+
+    private long count;
+    private double mean;
+    private double m2; // Sum of squared deviations from the mean
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public RunningStats merge(RunningStats other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // Sample variance
+    public double getVariance() {
+        return count > 1 ? m2 / (count - 1) : 0;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getStandardError() {
+        return count > 0 ? Math.sqrt(getVariance() / count) : Double.POSITIVE_INFINITY;
+    }
+
+    // Half-width of the normal-approximation confidence interval for the mean
+    public double getHalfWidth(double z) {
+        return z * getStandardError();
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+}
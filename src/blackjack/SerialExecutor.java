@@ -0,0 +1,36 @@
+package blackjack;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+// Runs submitted tasks one at a time, in order, on a shared backing executor.
+// Gives each table the guarantees of its own game thread without owning one.
+public final class SerialExecutor implements Executor {
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private final Executor backing;
+    private Runnable active;
+
+    public SerialExecutor(Executor backing) {
+        this.backing = backing;
+    }
+
+    @Override
+    public synchronized void execute(Runnable task) {
+        tasks.add(() -> {
+            try {
+                task.run();
+            } finally {
+                scheduleNext();
+            }
+        });
+        if (active == null) {
+            scheduleNext();
+        }
+    }
+
+    private synchronized void scheduleNext() {
+        if ((active = tasks.poll()) != null) {
+            backing.execute(active);
+        }
+    }
+}
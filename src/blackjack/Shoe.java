@@ -0,0 +1,153 @@
+package blackjack;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+// N decks of encoded cards dealt from a cursor. The shoe persists across rounds
+// and is only reshuffled once the cut card has come out, like a casino shoe.
+// Shuffles happen between rounds: the caller passes the reserve a round usually
+// needs. A round that still runs the shoe dry continues from the discards of
+// earlier rounds, shuffled back in, while the cards on the table stay out.
+public final class Shoe {
+    private static final LatencyHistogram SHUFFLE_TIME = Metrics.GLOBAL.histogram("shoe.shuffle");
+
+    public static final int DEFAULT_DECKS = 6;
+    public static final double DEFAULT_PENETRATION = 0.75;
+
+    private final byte[] cards;
+    private final int cutCard; // Reshuffle once this many cards have been dealt
+    private final RandomGenerator random;
+    private int cursor; // Next card to deal
+    private int roundStart; // Cards before this were dealt in earlier rounds
+    private long shuffles;
+
+    public Shoe(int decks, double penetration, RandomGenerator random) {
+        this(decks, cutCard(decks, penetration), random);
+    }
+
+    private Shoe(int decks, int cutCard, RandomGenerator random) {
+        if (cutCard < 0 || cutCard >= decks * Cards.DECK_SIZE) {
+            throw new IllegalArgumentException("Cut card must be inside the " + decks + "-deck shoe: " + cutCard);
+        }
+        this.cards = new byte[decks * Cards.DECK_SIZE];
+        this.cutCard = cutCard;
+        this.random = random;
+        for (int i = 0; i < decks; i++) {
+            Cards.fillDeck(cards, i * Cards.DECK_SIZE);
+        }
+        shuffle();
+    }
+
+    // A shoe cut at an exact position, as recorded in a hand history
+    public static Shoe withCutCard(int decks, int cutCard, RandomGenerator random) {
+        if (decks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck: " + decks);
+        }
+        return new Shoe(decks, cutCard, random);
+    }
+
+    private static int cutCard(int decks, double penetration) {
+        if (decks < 1) {
+            throw new IllegalArgumentException("A shoe needs at least one deck: " + decks);
+        }
+        if (penetration <= 0 || penetration >= 1) {
+            throw new IllegalArgumentException("Penetration must be in (0, 1): " + penetration);
+        }
+        return (int) (decks * Cards.DECK_SIZE * penetration);
+    }
+
+    public byte draw() {
+        if (cursor == cards.length) {
+            reshuffleDiscards();
+        }
+        return cards[cursor++];
+    }
+
+    // Marks the cards dealt so far as discards; call as each round starts
+    public void startRound() {
+        roundStart = cursor;
+    }
+
+    // Moves this round's cards to the front and shuffles the discards behind them
+    private void reshuffleDiscards() {
+        if (roundStart == 0) {
+            throw new IllegalStateException("Shoe of " + cards.length + " cards ran out in a single round");
+        }
+        int onTable = cards.length - roundStart;
+        byte[] discards = Arrays.copyOf(cards, roundStart);
+        System.arraycopy(cards, roundStart, cards, 0, onTable);
+        System.arraycopy(discards, 0, cards, onTable, discards.length);
+        shuffleFrom(onTable);
+    }
+
+    public boolean isCutCardReached() {
+        return cursor >= cutCard;
+    }
+
+    // Reshuffles only when the cut card has been reached; call between rounds
+    public boolean shuffleIfNeeded() {
+        return shuffleIfNeeded(0);
+    }
+
+    // Also reshuffles when fewer than `reserve` cards are left for the next round
+    public boolean shuffleIfNeeded(int reserve) {
+        if (isShuffleDue(reserve)) {
+            shuffle();
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isShuffleDue(int reserve) {
+        return isCutCardReached() || remaining() < reserve;
+    }
+
+    // Fisher-Yates over the whole shoe, in place
+    public void shuffle() {
+        shuffleFrom(0);
+    }
+
+    // Shuffles cards[from..) and deals on from there; the cards before stay put
+    private void shuffleFrom(int from) {
+        long start = System.nanoTime();
+        for (int i = cards.length - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+        cursor = from;
+        roundStart = 0;
+        shuffles++;
+        SHUFFLE_TIME.recordSince(start);
+    }
+
+    public int size() {
+        return cards.length;
+    }
+
+    public int remaining() {
+        return cards.length - cursor;
+    }
+
+    // Undealt cards per value index (ace first, tens last) as used by DealerProbabilities
+    public int[] countRemaining(int[] counts) {
+        Arrays.fill(counts, 0);
+        for (int i = cursor; i < cards.length; i++) {
+            counts[DealerProbabilities.valueIndex(cards[i])]++;
+        }
+        return counts;
+    }
+
+    public int getDecks() {
+        return cards.length / Cards.DECK_SIZE;
+    }
+
+    public int getCutCard() {
+        return cutCard;
+    }
+
+    public long getShuffles() {
+        return shuffles;
+    }
+}
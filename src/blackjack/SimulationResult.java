@@ -0,0 +1,137 @@
+package blackjack;
+
+// Outcome tallies and streaming statistics for a batch of simulated rounds.
+// Each worker fills its own instance, recording allocates nothing, and the
+// instances are merged once the workers are done.
+//
+// Outcomes are counted per hand (a split or a seated table has several);
+// blackjacks also count as wins and surrenders as losses. The net is sampled
+// per seat per round, which is the unit whose variance sets the confidence
+// interval. Player totals are taken per hand and dealer totals per round the
+// dealer had to play out.
+public final class SimulationResult {
+    private static final long MIN_SAMPLES = 10_000; // Before the normal approximation is trusted
+
+    private long rounds;
+    private long hands;
+    private long wins;
+    private long losses;
+    private long ties;
+    private long blackjacks;
+    private long surrenders;
+    private final RunningStats net = new RunningStats();
+    private final TotalHistogram playerTotals = new TotalHistogram();
+    private final TotalHistogram dealerTotals = new TotalHistogram();
+
+    // Every hand at every seat of the engine's finished round, and its net result
+    public void record(GameEngine engine) {
+        rounds++;
+        for (int seat = 0; seat < engine.getSeats(); seat++) {
+            for (int i = 0; i < engine.getPlayerHandCount(seat); i++) {
+                count(engine.getOutcome(seat, i));
+                playerTotals.add(engine.getPlayerHand(seat, i).getSum());
+            }
+            net.add(engine.getNet(seat));
+        }
+        if (engine.isDealerPlayed()) {
+            dealerTotals.add(engine.getDealerSum());
+        }
+    }
+
+    private void count(Outcome outcome) {
+        hands++;
+        switch (outcome) {
+            case BLACKJACK: blackjacks++; wins++; break;
+            case WIN: wins++; break;
+            case SURRENDER: surrenders++; losses++; break;
+            case LOSE: losses++; break;
+            default: ties++; break;
+        }
+    }
+
+    public SimulationResult merge(SimulationResult other) {
+        rounds += other.rounds;
+        hands += other.hands;
+        wins += other.wins;
+        losses += other.losses;
+        ties += other.ties;
+        blackjacks += other.blackjacks;
+        surrenders += other.surrenders;
+        net.merge(other.net);
+        playerTotals.merge(other.playerTotals);
+        dealerTotals.merge(other.dealerTotals);
+        return this;
+    }
+
+    // The 95% confidence interval of the expected value is within +/- halfWidth
+    public boolean isPrecise(double halfWidth) {
+        return net.getCount() >= MIN_SAMPLES && net.getHalfWidth(RunningStats.Z_95) <= halfWidth;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    // Rounds times the seats playing them
+    public long getSeatRounds() {
+        return net.getCount();
+    }
+
+    public long getHands() {
+        return hands;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getTies() {
+        return ties;
+    }
+
+    public long getBlackjacks() {
+        return blackjacks;
+    }
+
+    public long getSurrenders() {
+        return surrenders;
+    }
+
+    // Base bets won over all rounds
+    public double getNet() {
+        return net.getMean() * net.getCount();
+    }
+
+    // Net per seat per round
+    public RunningStats getNetStats() {
+        return net;
+    }
+
+    public TotalHistogram getPlayerTotals() {
+        return playerTotals;
+    }
+
+    public TotalHistogram getDealerTotals() {
+        return dealerTotals;
+    }
+
+    public String formatHistograms() {
+        return "Player final totals:" + System.lineSeparator() + playerTotals.format(4) + System.lineSeparator()
+                + "Dealer final totals:" + System.lineSeparator() + dealerTotals.format(GameEngine.DEALER_STAND);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Rounds: %d  Hands: %d%nWin: %.4f  Lose: %.4f  Tie: %.4f  Blackjack: %.4f  Surrender: %.4f%n"
+                        + "Player bust: %.4f  Dealer bust: %.4f%n"
+                        + "EV: %+.5f +/- %.5f bets per seat per round (95%%)  SD: %.4f  EV per hand: %+.5f",
+                rounds, hands, (double) wins / hands, (double) losses / hands, (double) ties / hands,
+                (double) blackjacks / hands, (double) surrenders / hands,
+                playerTotals.getBustShare(), dealerTotals.getBustShare(),
+                net.getMean(), net.getHalfWidth(RunningStats.Z_95), net.getStandardDeviation(), getNet() / hands);
+    }
+}
@@ -0,0 +1,145 @@
+package blackjack;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+// Plays rounds headlessly on one thread and prints the outcome split and throughput.
+// The strategy is "basic", a total to stand on, or a strategy table file.
+// Set -Dblackjack.history=<directory> to record every round to a hand-history log.
+// Set -Dblackjack.count=<system> (hilo, hiopt1, hiopt2, omega2, zen) to also split
+// the outcomes by the true count at the start of each round.
+// Set -Dblackjack.rules to change the table rules (see Rules.parse) and
+// -Dblackjack.seats to play 1..7 seats against each dealer hand.
+// Set -Dblackjack.precision=<bets> to stop as soon as the 95% confidence interval
+// of the EV is that narrow (rounds is then the upper limit), and
+// -Dblackjack.histograms=true to print the final-total histograms.
+// Usage: java Simulator [rounds] [strategy] [decks] [penetration] [seed] [algorithm]
+public class Simulator {
+    private static final int MAX_TRUE_COUNT = 10; // Outer true-count buckets collect everything beyond
+    private static final long PRECISION_CHECK_ROUNDS = 100_000L; // Rounds between early-stop checks
+
+    public static void main(String[] args) throws IOException {
+        long rounds = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000L;
+        BasicStrategy strategy = strategyFor(args.length > 1 ? args[1] : "basic");
+        int decks = args.length > 2 ? Integer.parseInt(args[2]) : Shoe.DEFAULT_DECKS;
+        double penetration = args.length > 3 ? Double.parseDouble(args[3]) : Shoe.DEFAULT_PENETRATION;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : RandomSource.newSeed();
+        String algorithm = args.length > 5 ? args[5] : RandomSource.DEFAULT_ALGORITHM;
+
+        Rules rules = Rules.fromSystemProperty();
+        int seats = Integer.getInteger("blackjack.seats", 1);
+        GameEngine engine = new GameEngine(new Shoe(decks, penetration, RandomSource.create(algorithm, seed)), rules, seats);
+        SimulationResult result = new SimulationResult();
+
+        String history = System.getProperty("blackjack.history");
+        HandHistoryLog log = history == null ? null : new HandHistoryLog(Path.of(history));
+        HandHistoryRecorder recorder = log == null ? null : new HandHistoryRecorder(log);
+        if (recorder != null) {
+            recorder.session(0, seed, algorithm, engine.getShoe(), rules, seats);
+            engine.setRecorder(recorder, 0);
+        }
+
+        String countSystem = System.getProperty("blackjack.count");
+        SimulationResult[] byTrueCount = null;
+        if (countSystem != null) {
+            engine.setCounter(new CardCounter(CountingSystem.named(countSystem), engine.getShoe()));
+            byTrueCount = new SimulationResult[2 * MAX_TRUE_COUNT + 1];
+            for (int i = 0; i < byTrueCount.length; i++) {
+                byTrueCount[i] = new SimulationResult();
+            }
+        }
+
+        double precision = Double.parseDouble(System.getProperty("blackjack.precision", "0"));
+        long start = System.nanoTime();
+        for (long played = 0; played < rounds; ) {
+            long batch = precision > 0 ? Math.min(PRECISION_CHECK_ROUNDS, rounds - played) : rounds - played;
+            if (byTrueCount != null) {
+                playCountedRounds(engine, batch, strategy, result, byTrueCount);
+            } else {
+                playRounds(engine, batch, strategy, result);
+            }
+            played += batch;
+            if (precision > 0 && result.isPrecise(precision)) {
+                break;
+            }
+        }
+        if (recorder != null) {
+            recorder.close();
+            log.close();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(result);
+        if (Boolean.getBoolean("blackjack.histograms")) {
+            System.out.println(result.formatHistograms());
+        }
+        System.out.printf("Shuffles: %d  Seed: %d  Algorithm: %s  Rules: %s  Seats: %d%n", engine.getShoe().getShuffles(),
+                seed, algorithm, rules, seats);
+        System.out.printf("Throughput: %.0f rounds/s%n", result.getRounds() / (elapsed / 1e9));
+        if (byTrueCount != null) {
+            System.out.println("True count (" + engine.getCounter().getSystem() + "), clamped to +/-" + MAX_TRUE_COUNT + ":");
+            for (int i = 0; i < byTrueCount.length; i++) {
+                SimulationResult bucket = byTrueCount[i];
+                if (bucket.getRounds() > 0) {
+                    System.out.printf("%+3d  rounds %9d  win %.4f  lose %.4f  tie %.4f  net %+.4f%n", i - MAX_TRUE_COUNT,
+                            bucket.getRounds(), (double) bucket.getWins() / bucket.getHands(),
+                            (double) bucket.getLosses() / bucket.getHands(), (double) bucket.getTies() / bucket.getHands(),
+                            bucket.getNet() / bucket.getSeatRounds());
+                }
+            }
+        }
+    }
+
+    static BasicStrategy strategyFor(String spec) throws IOException {
+        if (spec.equals("basic")) {
+            return BasicStrategy.defaultStrategy();
+        }
+        if (spec.chars().allMatch(Character::isDigit)) {
+            return BasicStrategy.standOn(Integer.parseInt(spec));
+        }
+        return BasicStrategy.load(Path.of(spec));
+    }
+
+    static void playRounds(GameEngine engine, long rounds, BasicStrategy strategy, SimulationResult result) {
+        for (long i = 0; i < rounds; i++) {
+            playRound(engine, strategy);
+            result.record(engine);
+        }
+    }
+
+    // Every seat plays every hand as the strategy table says and never insures
+    static void playRound(GameEngine engine, BasicStrategy strategy) {
+        engine.startRound();
+        while (engine.isInsuranceOffered()) {
+            engine.insure(false);
+        }
+        while (!engine.isRoundOver()) {
+            switch (strategy.decide(engine)) {
+                case HIT: engine.hit(); break;
+                case DOUBLE: engine.doubleDown(); break;
+                case SPLIT: engine.split(); break;
+                case SURRENDER: engine.surrender(); break;
+                default: engine.stand(); break;
+            }
+        }
+        while (engine.dealerShouldDraw()) {
+            engine.dealerDraw();
+        }
+    }
+
+    // As playRounds, also filing each outcome under the true count the round started at
+    static void playCountedRounds(GameEngine engine, long rounds, BasicStrategy strategy, SimulationResult result,
+            SimulationResult[] byTrueCount) {
+        CardCounter counter = engine.getCounter();
+        int maxTrueCount = byTrueCount.length / 2;
+        for (long i = 0; i < rounds; i++) {
+            // A round about to reshuffle is dealt from a fresh shoe, whose count starts at 0;
+            // startRound does the shuffle so it is recorded like any other
+            double count = engine.isShuffleDue() ? 0 : counter.getTrueCount();
+            int trueCount = (int) Math.max(-maxTrueCount, Math.min(maxTrueCount, Math.round(count)));
+            playRound(engine, strategy);
+            result.record(engine);
+            byTrueCount[trueCount + maxTrueCount].record(engine);
+        }
+    }
+}
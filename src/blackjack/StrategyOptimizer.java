@@ -0,0 +1,313 @@
+package blackjack;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Computes a strategy table for a rule set by exact recursion over the shoe
+// composition instead of simulation. For every dealer up-card and every two-card
+// starting hand, the expected value of standing, hitting (playing on optimally),
+// doubling and surrendering is worked out with the cards already dealt removed
+// from the shoe, and the dealer's final totals come from DealerProbabilities
+// under the same rules, conditioned on the peek. Each table cell then takes the
+// action with the best EV averaged over the starting hands that make its total,
+// weighted by how likely they are. Splits compare against two hands that each
+// draw one card and play on without resplitting.
+//
+// Both recursions are cached: a player hand's best EV by the composition left
+// (which identifies the hand within one up-card), and the dealer distribution
+// by composition, so no state is computed twice. Up-cards run in parallel.
+// Usage: java StrategyOptimizer [decks] [output file] [threads]; rules from -Dblackjack.rules
+public final class StrategyOptimizer {
+    private static final double SURRENDER_EV = -0.5;
+
+    private final Rules rules;
+    private final int decks;
+    private final DealerProbabilities dealer;
+
+    public StrategyOptimizer(Rules rules, int decks) {
+        if (decks < 1 || decks > DealerProbabilities.MAX_DECKS) {
+            throw new IllegalArgumentException("Decks must be 1.." + DealerProbabilities.MAX_DECKS + ": " + decks);
+        }
+        this.rules = rules;
+        this.decks = decks;
+        this.dealer = new DealerProbabilities(rules.isDealerHitsSoft17(), true, Integer.MAX_VALUE);
+    }
+
+    public BasicStrategy optimize(ForkJoinPool pool) {
+        List<Callable<UpCardResult>> tasks = new ArrayList<>();
+        for (int up = 0; up < DealerProbabilities.VALUES; up++) {
+            int upCardIndex = up;
+            tasks.add(() -> solve(upCardIndex));
+        }
+        BasicStrategy strategy = BasicStrategy.standOn(0);
+        for (Future<UpCardResult> future : pool.invokeAll(tasks)) {
+            UpCardResult result;
+            try {
+                result = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while optimizing", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Optimizer task failed", e.getCause());
+            }
+            result.apply(strategy, rules);
+        }
+        return strategy;
+    }
+
+    private UpCardResult solve(int up) {
+        int[] counts = DealerProbabilities.fullShoe(decks);
+        counts[up]--;
+        UpCardResult result = new UpCardResult(up);
+        PlayerHand hands = new PlayerHand(up);
+
+        for (int first = 0; first < DealerProbabilities.VALUES; first++) {
+            for (int second = first; second < DealerProbabilities.VALUES; second++) {
+                boolean natural = first == 0 && second == DealerProbabilities.VALUES - 1;
+                if (natural) {
+                    continue; // Paid out before any decision
+                }
+                int remaining = sum(counts);
+                double p = (double) counts[first] / remaining;
+                counts[first]--;
+                p *= (double) counts[second] / (remaining - 1);
+                counts[second]--;
+                if (p > 0) {
+                    if (first != second) {
+                        p *= 2; // Either order
+                    }
+                    int total = cardValue(first) + cardValue(second);
+                    int softAces = (first == 0 ? 1 : 0) + (second == 0 ? 1 : 0);
+                    if (total > GameEngine.BLACKJACK) {
+                        total -= 10; // A pair of aces
+                        softAces--;
+                    }
+                    double stand = hands.stand(counts, total);
+                    double hit = hands.hit(counts, total, softAces);
+                    double doubled = hands.doubleDown(counts, total, softAces);
+                    result.add(total, softAces > 0, p, stand, hit, doubled);
+                    if (first == second) {
+                        double played = Math.max(Math.max(stand, hit), doubled);
+                        if (rules.isSurrender()) {
+                            played = Math.max(played, SURRENDER_EV);
+                        }
+                        result.splits[first] = split(up, first, counts) > played;
+                    }
+                }
+                counts[second]++;
+                counts[first]++;
+            }
+        }
+        return result;
+    }
+
+    // Two hands each starting from one card of the pair, without resplits
+    private double split(int up, int pair, int[] counts) {
+        boolean aces = pair == 0;
+        PlayerHand hands = new PlayerHand(up); // Own cache: one pair card is out of both the shoe and the hand
+        int remaining = sum(counts);
+        double ev = 0;
+        for (int value = 0; value < DealerProbabilities.VALUES; value++) {
+            if (counts[value] == 0) {
+                continue;
+            }
+            double p = (double) counts[value] / remaining;
+            int total = cardValue(pair) + cardValue(value);
+            int softAces = (aces ? 1 : 0) + (value == 0 ? 1 : 0);
+            if (total > GameEngine.BLACKJACK) {
+                total -= 10;
+                softAces--;
+            }
+            counts[value]--;
+            double best = hands.stand(counts, total);
+            if (!aces || rules.isHitSplitAces()) {
+                best = Math.max(best, hands.hit(counts, total, softAces));
+                if (rules.isDoubleAfterSplit()) {
+                    best = Math.max(best, hands.doubleDown(counts, total, softAces));
+                }
+            }
+            counts[value]++;
+            ev += p * best;
+        }
+        return 2 * ev;
+    }
+
+    // EVs of one player hand against one up-card, in bets, cached by the composition left
+    private final class PlayerHand {
+        private final int up;
+        private final HashMap<Long, Double> best = new HashMap<>();
+
+        PlayerHand(int up) {
+            this.up = up;
+        }
+
+        double stand(int[] counts, int total) {
+            return dealer.standExpectation(total, up, counts);
+        }
+
+        // Draws one card and then plays on optimally
+        double hit(int[] counts, int total, int softAces) {
+            int remaining = sum(counts);
+            double ev = 0;
+            for (int value = 0; value < DealerProbabilities.VALUES; value++) {
+                if (counts[value] == 0) {
+                    continue;
+                }
+                int nextTotal = total + cardValue(value);
+                int nextSoft = softAces + (value == 0 ? 1 : 0);
+                while (nextTotal > GameEngine.BLACKJACK && nextSoft > 0) {
+                    nextTotal -= 10;
+                    nextSoft--;
+                }
+                counts[value]--;
+                double next = nextTotal > GameEngine.BLACKJACK ? -1 : best(counts, nextTotal, nextSoft);
+                counts[value]++;
+                ev += (double) counts[value] / remaining * next;
+            }
+            return ev;
+        }
+
+        // One card at twice the bet, then stand
+        double doubleDown(int[] counts, int total, int softAces) {
+            int remaining = sum(counts);
+            double ev = 0;
+            for (int value = 0; value < DealerProbabilities.VALUES; value++) {
+                if (counts[value] == 0) {
+                    continue;
+                }
+                int nextTotal = total + cardValue(value);
+                int nextSoft = softAces + (value == 0 ? 1 : 0);
+                while (nextTotal > GameEngine.BLACKJACK && nextSoft > 0) {
+                    nextTotal -= 10;
+                    nextSoft--;
+                }
+                counts[value]--;
+                double next = stand(counts, nextTotal);
+                counts[value]++;
+                ev += (double) counts[value] / remaining * next;
+            }
+            return 2 * ev;
+        }
+
+        private double best(int[] counts, int total, int softAces) {
+            long key = DealerProbabilities.pack(counts);
+            Double known = best.get(key);
+            if (known != null) {
+                return known;
+            }
+            double ev = Math.max(stand(counts, total), hit(counts, total, softAces));
+            best.put(key, ev);
+            return ev;
+        }
+    }
+
+    // Probability-weighted EV sums per (soft, total) cell for one up-card
+    private static final class UpCardResult {
+        private static final int STAND = 0;
+        private static final int HIT = 1;
+        private static final int DOUBLE = 2;
+
+        private final int up;
+        private final double[][][] ev = new double[2][GameEngine.BLACKJACK + 1][3];
+        private final double[][] weight = new double[2][GameEngine.BLACKJACK + 1];
+        private final boolean[] splits = new boolean[DealerProbabilities.VALUES];
+
+        UpCardResult(int up) {
+            this.up = up;
+        }
+
+        void add(int total, boolean soft, double p, double stand, double hit, double doubled) {
+            int s = soft ? 1 : 0;
+            weight[s][total] += p;
+            ev[s][total][STAND] += p * stand;
+            ev[s][total][HIT] += p * hit;
+            ev[s][total][DOUBLE] += p * doubled;
+        }
+
+        // Cells no two-card hand reaches (hard 21) keep standing
+        void apply(BasicStrategy strategy, Rules rules) {
+            int upValue = cardValue(up);
+            for (int s = 0; s < 2; s++) {
+                for (int total = 0; total <= GameEngine.BLACKJACK; total++) {
+                    if (weight[s][total] == 0) {
+                        continue;
+                    }
+                    double stand = ev[s][total][STAND] / weight[s][total];
+                    double hit = ev[s][total][HIT] / weight[s][total];
+                    double doubled = ev[s][total][DOUBLE] / weight[s][total];
+                    double played = Math.max(stand, hit);
+                    Action action = hit > stand ? Action.HIT : Action.STAND;
+                    if (rules.isSurrender() && SURRENDER_EV > Math.max(played, doubled)) {
+                        action = hit > stand ? Action.SURRENDER : Action.SURRENDER_OR_STAND;
+                    } else if (doubled > played) {
+                        action = hit > stand ? Action.DOUBLE : Action.DOUBLE_OR_STAND;
+                    }
+                    strategy.set(total, s == 1, upValue, action);
+                }
+            }
+            for (int pair = 0; pair < DealerProbabilities.VALUES; pair++) {
+                strategy.setSplit(cardValue(pair), upValue, splits[pair]);
+            }
+        }
+    }
+
+    // Value index to card value, aces as 11
+    private static int cardValue(int valueIndex) {
+        return valueIndex == 0 ? 11 : valueIndex + 1;
+    }
+
+    private static int sum(int[] counts) {
+        int sum = 0;
+        for (int count : counts) {
+            sum += count;
+        }
+        return sum;
+    }
+
+    // Prints (or saves) the table and how many cells differ from defaultStrategy()
+    public static void main(String[] args) throws IOException {
+        int decks = args.length > 0 ? Integer.parseInt(args[0]) : Shoe.DEFAULT_DECKS;
+        Path output = args.length > 1 ? Path.of(args[1]) : null;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Rules rules = Rules.fromSystemProperty();
+
+        StrategyOptimizer optimizer = new StrategyOptimizer(rules, decks);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        BasicStrategy strategy;
+        try {
+            strategy = optimizer.optimize(pool);
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        if (output != null) {
+            strategy.save(output);
+        } else {
+            strategy.write(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        }
+        BasicStrategy reference = BasicStrategy.defaultStrategy();
+        int differences = 0;
+        for (int up = 2; up <= 11; up++) {
+            for (int total = 4; total <= GameEngine.BLACKJACK; total++) {
+                differences += strategy.get(total, false, up) != reference.get(total, false, up) ? 1 : 0;
+                differences += total >= 12 && strategy.get(total, true, up) != reference.get(total, true, up) ? 1 : 0;
+            }
+            for (int pair = 2; pair <= 11; pair++) {
+                differences += strategy.isSplit(pair, up) != reference.isSplit(pair, up) ? 1 : 0;
+            }
+        }
+        System.err.printf("Decks: %d  Rules: %s  Threads: %d  Time: %.1f s  Cells differing from basic: %d%n",
+                decks, rules, threads, elapsed / 1e9, differences);
+    }
+}
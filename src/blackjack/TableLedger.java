@@ -0,0 +1,70 @@
+package blackjack;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Money moved at one table, in chips. Each finished round settles its wager here
+// from the table's game executor, and into the house's running total as well, so
+// the house keeps the round even if the table has closed in the meantime. Readers
+// may sum the counters from any thread at any time without stopping play.
+public final class TableLedger {
+    private final long tableId;
+    private final TableLedger house; // Null for the house itself
+    private final LongAdder rounds = new LongAdder();
+    private final LongAdder hands = new LongAdder();
+    private final LongAdder wagered = new LongAdder(); // Doubles, splits and insurance included
+    private final LongAdder playerNet = new LongAdder();
+
+    TableLedger(long tableId, TableLedger house) {
+        this.tableId = tableId;
+        this.house = house;
+    }
+
+    // Settles the engine's finished round at `bet` chips per base bet. Fractional
+    // chips (a 3:2 payout on an odd bet) are rounded down in the house's favour,
+    // seat by seat, since each seat is paid separately.
+    public void settle(GameEngine engine, long bet) {
+        long handCount = 0;
+        long net = 0;
+        for (int seat = 0; seat < engine.getSeats(); seat++) {
+            handCount += engine.getPlayerHandCount(seat);
+            net += (long) Math.floor(engine.getNet(seat) * bet);
+        }
+        long chips = Math.round(engine.getWagered() * bet);
+        add(handCount, chips, net);
+        if (house != null) {
+            house.add(handCount, chips, net);
+        }
+    }
+
+    private void add(long handCount, long chipsWagered, long net) {
+        rounds.increment();
+        hands.add(handCount);
+        wagered.add(chipsWagered);
+        playerNet.add(net);
+    }
+
+    public long getTableId() {
+        return tableId;
+    }
+
+    public long getRounds() {
+        return rounds.sum();
+    }
+
+    public long getHands() {
+        return hands.sum();
+    }
+
+    public long getWagered() {
+        return wagered.sum();
+    }
+
+    // What the players won; the house's result is the negation
+    public long getPlayerNet() {
+        return playerNet.sum();
+    }
+
+    public long getHouseNet() {
+        return -playerNet.sum();
+    }
+}
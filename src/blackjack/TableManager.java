@@ -0,0 +1,205 @@
+package blackjack;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Hosts any number of independent tables in one JVM. Tables do not own threads:
+// each runs its actions through a SerialExecutor over one shared worker pool
+// (virtual threads when the runtime has them, otherwise a work-stealing pool),
+// and a single timer thread paces every dealer. Every table settles its rounds
+// into its own TableLedger and the house total, which getLedger().totals() reads.
+// With a HandHistoryLog set, every table records its session and rounds to it
+// under its id, and closing the table flushes them.
+// The load check reads -Dblackjack.rules (see Rules.parse) to compare hold
+// across rule sets, and -Dblackjack.history=<directory> to record the tables.
+// Usage: java TableManager [tables] [roundsPerTable] [dealerDelayMillis] [seats]
+public final class TableManager implements AutoCloseable {
+    private final int decks;
+    private final double penetration;
+    private final Rules rules;
+    private final String algorithm;
+    private final long masterSeed;
+    private final long dealerDelayMillis;
+
+    private final ExecutorService workers = newWorkerPool();
+    private final ScheduledExecutorService timer;
+    private final ConcurrentHashMap<Long, TableSession> tables = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Ledger ledger = new Ledger();
+    private volatile HandHistoryLog history;
+
+    public TableManager(int decks, double penetration, String algorithm, long masterSeed, long dealerDelayMillis) {
+        this(decks, penetration, Rules.DEFAULT, algorithm, masterSeed, dealerDelayMillis);
+    }
+
+    public TableManager(int decks, double penetration, Rules rules, String algorithm, long masterSeed,
+                        long dealerDelayMillis) {
+        this.decks = decks;
+        this.penetration = penetration;
+        this.rules = rules;
+        this.algorithm = algorithm;
+        this.masterSeed = masterSeed;
+        this.dealerDelayMillis = dealerDelayMillis;
+
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "dealer-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        this.timer = scheduler;
+    }
+
+    // Set before the first table opens; the caller closes the log after this manager
+    public void setHistory(HandHistoryLog history) {
+        this.history = history;
+    }
+
+    public TableSession openTable() {
+        return openTable(1);
+    }
+
+    // Table shoes are seeded from the master seed and the table id
+    public TableSession openTable(int seats) {
+        long id = nextId.incrementAndGet();
+        long seed = RandomSource.streamSeed(masterSeed, id);
+        Shoe shoe = new Shoe(decks, penetration, RandomSource.create(algorithm, seed));
+        TableSession table = new TableSession(id, seed, new GameEngine(shoe, rules, seats), this);
+        tables.put(id, table);
+        return table;
+    }
+
+    public TableSession getTable(long id) {
+        return tables.get(id);
+    }
+
+    public void closeTable(long id) {
+        TableSession table = tables.remove(id);
+        if (table != null) {
+            table.close();
+        }
+        ledger.closeTable(id);
+    }
+
+    public int getTableCount() {
+        return tables.size();
+    }
+
+    public Ledger getLedger() {
+        return ledger;
+    }
+
+    GameController newController(long tableId, long seed, GameEngine engine, Consumer<GameSnapshot> listener) {
+        GameController controller = new GameController(engine, new SerialExecutor(workers), timer, dealerDelayMillis, listener);
+        controller.setLedger(ledger.forTable(tableId));
+        controller.setTableId(tableId);
+        HandHistoryLog log = history;
+        if (log != null) {
+            HandHistoryRecorder recorder = new HandHistoryRecorder(log);
+            recorder.session((int) tableId, seed, algorithm, engine.getShoe(), rules, engine.getSeats());
+            controller.setRecorder(recorder, (int) tableId);
+        }
+        return controller;
+    }
+
+    // Flushes every open table's hand history before the workers stop
+    @Override
+    public void close() {
+        List<CompletableFuture<Void>> flushed = new ArrayList<>();
+        for (TableSession table : tables.values()) {
+            flushed.add(table.close());
+        }
+        tables.clear();
+        for (CompletableFuture<Void> table : flushed) {
+            table.join();
+        }
+        timer.shutdownNow();
+        workers.shutdown();
+    }
+
+    // Executors.newVirtualThreadPerTaskExecutor() where available (JDK 21+)
+    private static ExecutorService newWorkerPool() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        }
+    }
+
+    // Load check: every table plays its rounds with basic strategy at once
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int tableCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int roundsPerTable = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        long dealerDelay = args.length > 2 ? Long.parseLong(args[2]) : 0L;
+        int seats = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+
+        BasicStrategy strategy = BasicStrategy.defaultStrategy();
+        CountDownLatch finished = new CountDownLatch(tableCount);
+        AtomicLong wins = new AtomicLong();
+
+        Rules rules = Rules.fromSystemProperty();
+        String history = System.getProperty("blackjack.history");
+        Metrics.install();
+        try (HandHistoryLog log = history == null ? null : new HandHistoryLog(Path.of(history));
+             TableManager manager = new TableManager(Shoe.DEFAULT_DECKS, Shoe.DEFAULT_PENETRATION, rules,
+                RandomSource.DEFAULT_ALGORITHM, RandomSource.newSeed(), dealerDelay)) {
+            manager.setHistory(log);
+            long start = System.nanoTime();
+            for (int t = 0; t < tableCount; t++) {
+                TableSession table = manager.openTable(seats);
+                int[] roundsLeft = {roundsPerTable}; // Only touched on the table's game executor
+                table.setListener(snapshot -> {
+                    if (snapshot.isRoundOver()) {
+                        for (int seat = 0; seat < snapshot.getSeatCount(); seat++) {
+                            if (snapshot.getSeatOutcome(seat).isWin()) {
+                                wins.incrementAndGet();
+                            }
+                        }
+                        if (--roundsLeft[0] > 0) {
+                            table.deal();
+                        } else {
+                            finished.countDown();
+                        }
+                    } else if (!snapshot.isPlayerTurnOver()) {
+                        int seat = snapshot.getActiveSeat();
+                        Action action = strategy.decide(snapshot.getSeatSum(seat), snapshot.isSeatSoft(seat),
+                                Cards.value(snapshot.getDealerCard(1)));
+                        if (action == Action.HIT) {
+                            table.hit();
+                        } else {
+                            table.stay();
+                        }
+                    }
+                });
+                table.deal();
+            }
+            finished.await();
+            long elapsed = System.nanoTime() - start;
+
+            long rounds = (long) tableCount * roundsPerTable;
+            long seatRounds = rounds * seats;
+            System.out.printf("Tables: %d  Seats: %d  Rounds: %d  Win: %.4f%n", tableCount, seats, rounds,
+                    (double) wins.get() / seatRounds);
+            System.out.printf("Throughput: %.0f rounds/s, %.0f seat rounds/s  (%d ms)%n", rounds / (elapsed / 1e9),
+                    seatRounds / (elapsed / 1e9), TimeUnit.NANOSECONDS.toMillis(elapsed));
+            System.out.println(manager.getLedger().totals() + "  Rules: " + rules);
+            System.out.print(Metrics.GLOBAL.format());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package blackjack;
+
+import java.awt.*;
+import java.awt.image.VolatileImage;
+
+// Paints a table snapshot: background, both hands, cards in flight and the result.
+// Holds no Swing components, so it paints into any Graphics, on screen or off.
+// The background and the settled cards are composed once into a static layer
+// (a VolatileImage on screen, so it can live in video memory) and rebuilt only
+// when the snapshot or the set of moving cards changes; a frame is then one
+// blit of that layer plus the cards in flight and the result message.
+public class TableRenderer {
+    // Animation keys: hand base + card index
+    public static final int DEALER_CARD = 0;
+    public static final int PLAYER_CARD = 1 << 8;
+
+    private final CardImages cardImages;
+    private final int cardWidth;
+    private final int cardHeight;
+    private final int dealerCardY = 20;
+    private final int playerCardY = 320;
+    private final Font messageFont = new Font("Arial", Font.PLAIN, 30);
+    private AnimationLoop animationLoop; // Optional: cards it is moving are left to it
+
+    // Static layer, valid for layerState at layerChanges (animation loop changes)
+    private boolean layerEnabled = true;
+    private Image layer;
+    private GraphicsConfiguration layerConfig;
+    private GameSnapshot layerState;
+    private long layerChanges;
+
+    public TableRenderer(CardImages cardImages, int cardWidth, int cardHeight) {
+        this.cardImages = cardImages;
+        this.cardWidth = cardWidth;
+        this.cardHeight = cardHeight;
+    }
+
+    public void setAnimationLoop(AnimationLoop animationLoop) {
+        this.animationLoop = animationLoop;
+    }
+
+    // Off paints every frame from scratch, as before the layer existed
+    public void setLayerEnabled(boolean layerEnabled) {
+        this.layerEnabled = layerEnabled;
+        layer = null;
+    }
+
+    public void paint(Graphics g, GameSnapshot state) {
+        if (!paintLayer(g, state)) {
+            paintSettled(g, state);
+        }
+
+        if (animationLoop != null) {
+            animationLoop.paintTweens(g);
+        }
+
+        if (state.isRoundOver()) {
+            g.setFont(messageFont);
+            g.setColor(Color.white);
+            g.drawString(state.getOutcome().getMessage(), 220, 250);
+        }
+    }
+
+    // Blits the static layer, rebuilding it first if stale; false if it could not be used
+    private boolean paintLayer(Graphics g, GameSnapshot state) {
+        Image background = cardImages.getBackground();
+        if (!layerEnabled || background == null || !(g instanceof Graphics2D)) {
+            return false;
+        }
+        GraphicsConfiguration config = ((Graphics2D) g).getDeviceConfiguration();
+        long changes = animationLoop != null ? animationLoop.getChanges() : 0;
+
+        // A VolatileImage can lose its contents at any time (mode switch, another
+        // full-screen app), so validate before use and retry once if lost after
+        for (int attempt = 0; attempt < 2; attempt++) {
+            boolean stale = state != layerState || changes != layerChanges;
+            if (layer == null || config != layerConfig) {
+                layer = createLayer(config, background.getWidth(null), background.getHeight(null));
+                layerConfig = config;
+                stale = true;
+            }
+            if (layer instanceof VolatileImage) {
+                int status = ((VolatileImage) layer).validate(config);
+                if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                    layer = createLayer(config, background.getWidth(null), background.getHeight(null));
+                }
+                stale |= status != VolatileImage.IMAGE_OK;
+            }
+            if (stale) {
+                Graphics layerGraphics = layer.getGraphics();
+                try {
+                    paintSettled(layerGraphics, state);
+                } finally {
+                    layerGraphics.dispose();
+                }
+                layerState = state;
+                layerChanges = changes;
+            }
+            g.drawImage(layer, 0, 0, null);
+            if (!(layer instanceof VolatileImage) || !((VolatileImage) layer).contentsLost()) {
+                return true;
+            }
+            layerState = null;
+        }
+        return false;
+    }
+
+    // Accelerated on a screen device; a plain image when painting into an image already
+    private static Image createLayer(GraphicsConfiguration config, int width, int height) {
+        if (config.getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            return config.createCompatibleImage(width, height, Transparency.OPAQUE);
+        }
+        return config.createCompatibleVolatileImage(width, height, Transparency.OPAQUE);
+    }
+
+    // Background plus every card not in flight
+    private void paintSettled(Graphics g, GameSnapshot state) {
+        // Images come pre-scaled from the cache, so draw them at their natural size
+        g.drawImage(cardImages.getBackground(), 0, 0, null);
+
+        if (state.getDealerCardCount() > 0) {
+            Image hiddenCardImg = cardImages.getCardBack();
+            if (state.isPlayerTurnOver()) {
+                hiddenCardImg = cardImages.get(state.getDealerCard(0));
+            }
+            g.drawImage(hiddenCardImg, dealerCardX(0), dealerCardY, null);
+        }
+
+        // Draw dealer's hand (index 0 is the hidden card drawn above).
+        // Cards in flight are drawn by the animation loop, cards outside
+        // the repaint area are skipped.
+        for (int i = 1; i < state.getDealerCardCount(); i++) {
+            int x = dealerCardX(i);
+            if (g.hitClip(x, dealerCardY, cardWidth, cardHeight) && !isAnimating(DEALER_CARD + i)) {
+                g.drawImage(cardImages.get(state.getDealerCard(i)), x, dealerCardY, null);
+            }
+        }
+
+        // Draw player's hand
+        for (int i = 0; i < state.getPlayerCardCount(); i++) {
+            int x = playerCardX(i);
+            if (g.hitClip(x, playerCardY, cardWidth, cardHeight) && !isAnimating(PLAYER_CARD + i)) {
+                g.drawImage(cardImages.get(state.getPlayerCard(i)), x, playerCardY, null);
+            }
+        }
+    }
+
+    private boolean isAnimating(int key) {
+        return animationLoop != null && animationLoop.isAnimating(key);
+    }
+
+    public int dealerCardX(int index) {
+        return index == 0 ? 20 : cardWidth + 25 + (cardWidth + 5) * (index - 1);
+    }
+
+    public int playerCardX(int index) {
+        return 20 + (cardWidth + 5) * index;
+    }
+
+    public int getDealerCardY() {
+        return dealerCardY;
+    }
+
+    public int getPlayerCardY() {
+        return playerCardY;
+    }
+}
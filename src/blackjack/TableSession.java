@@ -0,0 +1,68 @@
+package blackjack;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+// One table hosted by a TableManager: its own shoe, hands and controller,
+// running on the manager's shared threads. hit() and stay() act for the seat
+// the latest snapshot shows as active.
+public final class TableSession {
+    private final long id;
+    private final long seed;
+    private final GameController controller;
+    private volatile Consumer<GameSnapshot> listener;
+
+    TableSession(long id, long seed, GameEngine engine, TableManager manager) {
+        this.id = id;
+        this.seed = seed;
+        this.controller = manager.newController(id, seed, engine, this::onSnapshot);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    // Seed of this table's shoe, for replaying a disputed hand
+    public long getSeed() {
+        return seed;
+    }
+
+    // Receives every snapshot on the table's game executor; keep it short
+    public void setListener(Consumer<GameSnapshot> listener) {
+        this.listener = listener;
+    }
+
+    // Chips per base bet from the next settled round on
+    public void setBet(long bet) {
+        controller.setBet(bet);
+    }
+
+    public GameSnapshot getSnapshot() {
+        return controller.getSnapshot();
+    }
+
+    // Refused while a round is still open; see GameController.deal()
+    public CompletableFuture<Boolean> deal() {
+        return controller.deal();
+    }
+
+    public void hit() {
+        controller.hit();
+    }
+
+    public void stay() {
+        controller.stay();
+    }
+
+    // Flushes the table's hand history; called by TableManager.closeTable()
+    CompletableFuture<Void> close() {
+        return controller.closeHistory();
+    }
+
+    private void onSnapshot(GameSnapshot snapshot) {
+        Consumer<GameSnapshot> current = listener;
+        if (current != null) {
+            current.accept(snapshot);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package blackjack;
+
+// Counts of final hand totals, one bucket per total. A hand can finish at most
+// at 30 (hitting a hard 20 with a ten); higher totals share the last bucket.
+public final class TotalHistogram {
+    public static final int MAX_TOTAL = 30;
+
+    private final long[] counts = new long[MAX_TOTAL + 1];
+    private long total;
+
+    public void add(int handTotal) {
+        counts[Math.min(handTotal, MAX_TOTAL)]++;
+        total++;
+    }
+
+    public TotalHistogram merge(TotalHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        total += other.total;
+        return this;
+    }
+
+    public long get(int handTotal) {
+        return counts[handTotal];
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public double getShare(int handTotal) {
+        return total == 0 ? 0 : (double) counts[handTotal] / total;
+    }
+
+    // Share of hands that finished over 21
+    public double getBustShare() {
+        long busts = 0;
+        for (int i = GameEngine.BLACKJACK + 1; i < counts.length; i++) {
+            busts += counts[i];
+        }
+        return total == 0 ? 0 : (double) busts / total;
+    }
+
+    // One line per total from `from` to 21 and a bust line, with shares
+    public String format(int from) {
+        StringBuilder out = new StringBuilder();
+        for (int i = from; i <= GameEngine.BLACKJACK; i++) {
+            if (counts[i] > 0) {
+                out.append(String.format("  %2d  %7.4f%n", i, getShare(i)));
+            }
+        }
+        out.append(String.format("  bust %6.4f", getBustShare()));
+        return out.toString();
+    }
+}
@@ -0,0 +1,85 @@
+package blackjack;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class GameServerTest {
+    private static final int ROUNDS = 20;
+    private static final int EXTRA_DEALS = 5;
+
+    // DEALs sent while the player is still to act are refused, and every round
+    // that was dealt reaches the ledger
+    @Test
+    void dealMidRoundIsRefusedAndEveryRoundIsSettled() throws Exception {
+        try (TableManager manager = new TableManager(Shoe.DEFAULT_DECKS, Shoe.DEFAULT_PENETRATION,
+                RandomSource.DEFAULT_ALGORITHM, 42L, 0L)) {
+            GameServer server = new GameServer(new InetSocketAddress("127.0.0.1", 0), manager);
+            Thread selector = new Thread(() -> {
+                try {
+                    server.run();
+                } catch (IOException | ClosedSelectorException e) {
+                    // Closed at the end of the test
+                }
+            }, "server");
+            selector.setDaemon(true);
+            selector.start();
+
+            int refused = 0;
+            int refusalsExpected = 0;
+            try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                OutputStream out = socket.getOutputStream();
+                for (int round = 0; round < ROUNDS; round++) {
+                    send(out, GameProtocol.DEAL);
+                    String phase = phase(in.readLine());
+                    if (phase.equals(GameProtocol.PHASE_PLAYER)) {
+                        for (int i = 0; i < EXTRA_DEALS; i++) {
+                            send(out, GameProtocol.DEAL);
+                        }
+                        refusalsExpected += EXTRA_DEALS;
+                        send(out, GameProtocol.STAY);
+                    }
+                    while (!phase.equals(GameProtocol.PHASE_DONE)) {
+                        String line = in.readLine();
+                        if (line.startsWith(GameProtocol.ERROR)) {
+                            refused++;
+                        } else {
+                            phase = phase(line);
+                        }
+                    }
+                }
+                send(out, GameProtocol.QUIT);
+            } finally {
+                server.close();
+                selector.join(); // The selector closes tables, so it stops before the manager
+            }
+
+            assertTrue(refusalsExpected > 0, "no round left the player to act");
+            assertEquals(refusalsExpected, refused);
+            Ledger.Totals totals = manager.getLedger().totals();
+            assertEquals(ROUNDS, totals.getRounds());
+            assertEquals(ROUNDS * Ledger.DEFAULT_BET, totals.getWagered());
+        }
+    }
+
+    // STATE version phase ...
+    private static String phase(String line) {
+        assertTrue(line.startsWith(GameProtocol.STATE), "expected a snapshot: " + line);
+        return line.split(" ")[2];
+    }
+
+    private static void send(OutputStream out, String command) throws IOException {
+        out.write((command + "\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+}